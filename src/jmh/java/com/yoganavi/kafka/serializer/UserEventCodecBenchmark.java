@@ -0,0 +1,84 @@
+package com.yoganavi.kafka.serializer;
+
+import com.yoganavi.kafka.event.UserEvent;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/**
+ * UserEvent 직렬화 형식 비교 (JSON + 타입 헤더 vs Avro)
+ * <p>
+ * 직렬화/역직렬화 처리량을 측정한다. 두 형식 모두 실제 프로듀서/컨슈머와 같은 UserEventSerializer/UserEventDeserializer를
+ * 거친다. 메시지 크기(값 + 헤더) 비교는 UserEventAvroCodecTest에서 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserEventCodecBenchmark {
+
+    private static final String TOPIC = "user-updated";
+
+    @Param({"json", "avro"})
+    private String format;
+
+    private UserEventSerializer serializer;
+    private UserEventDeserializer deserializer;
+    private UserEvent event;
+    private RecordHeaders headers;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        UserEventAvroCodec codec = new UserEventAvroCodec(
+            new AvroSchemaRegistry("avro/registry.properties"));
+        serializer = new UserEventSerializer(codec,
+            "avro".equals(format) ? Set.of(TOPIC) : Set.of());
+        serializer.configure(Map.of(), false);
+        JsonDeserializer<UserEvent> jsonDeserializer = new JsonDeserializer<>(UserEvent.class,
+            false);
+        jsonDeserializer.addTrustedPackages("*");
+        jsonDeserializer.setRemoveTypeHeaders(false);
+        deserializer = new UserEventDeserializer(codec, jsonDeserializer);
+
+        event = UserEvent.builder()
+            .transactionId(UUID.randomUUID().toString())
+            .userId(123456L)
+            .email("yoga.teacher@yoganavi.com")
+            .nickname("아침요가선생님")
+            .profileImageUrl("https://yoganavi.s3.ap-northeast-2.amazonaws.com/profile/123456.jpg")
+            .profileImageUrlSmall(
+                "https://yoganavi.s3.ap-northeast-2.amazonaws.com/profile/123456_small.jpg")
+            .role("TEACHER")
+            .content("하타, 빈야사 요가 10년차 강사입니다.")
+            .eventType(UserEvent.EventType.UPDATED)
+            .isDeleted(false)
+            .status(UserEvent.EventStatus.STARTED)
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        headers = new RecordHeaders();
+        payload = serializer.serialize(TOPIC, headers, event);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public UserEvent deserialize() {
+        return deserializer.deserialize(TOPIC, headers, payload);
+    }
+}
@@ -0,0 +1,123 @@
+package com.yoganavi.kafka.service;
+
+import com.yoganavi.kafka.event.UserEvent;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+/**
+ * 사용자 이벤트 발행 처리량 (이벤트마다 Kafka 트랜잭션 vs 배치마다 트랜잭션 하나)
+ * <p>
+ * spring-kafka-test의 임베디드 브로커(단일 노드)를 쓰므로 절대값보다 설정 간 비교용이다. 프로듀서 설정은 KafkaProducerConfig와 같고 linger.ms와
+ * compression.type만 바꿔 가며 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserEventPublishBenchmark {
+
+    private static final String TOPIC = "user-created";
+    private static final int BATCH_SIZE = 200;
+
+    // per-event: 변경 전 (이벤트마다 executeInTransaction), batch: 발행 대기열 배치 발행
+    @Param({"per-event", "batch"})
+    private String mode;
+
+    @Param({"0", "20"})
+    private int lingerMs;
+
+    @Param({"none", "lz4", "zstd"})
+    private String compression;
+
+    private EmbeddedKafkaBroker broker;
+    private DefaultKafkaProducerFactory<String, Object> producerFactory;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private List<UserEvent> events;
+
+    @Setup
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC)
+            .brokerProperties(Map.of(
+                "transaction.state.log.replication.factor", "1",
+                "transaction.state.log.min.isr", "1"));
+        broker.afterPropertiesSet();
+
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 65536);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compression);
+        producerFactory = new DefaultKafkaProducerFactory<>(configProps);
+        producerFactory.setTransactionIdPrefix("benchmark-tx-");
+        kafkaTemplate = new KafkaTemplate<>(producerFactory);
+
+        events = new ArrayList<>(BATCH_SIZE);
+        for (long userId = 1; userId <= BATCH_SIZE; userId++) {
+            events.add(UserEvent.builder()
+                .transactionId(UUID.randomUUID().toString())
+                .userId(userId)
+                .email("bench" + userId + "@yoganavi.com")
+                .nickname("bench" + userId)
+                .profileImageUrl("https://yoganavi.s3.ap-northeast-2.amazonaws.com/profile/"
+                    + userId + ".jpg")
+                .role("STUDENT")
+                .content("요가 수련 3년차입니다.")
+                .eventType(UserEvent.EventType.CREATED)
+                .status(UserEvent.EventStatus.STARTED)
+                .timestamp(LocalDateTime.now())
+                .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        producerFactory.destroy();
+        broker.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void publish() {
+        if ("per-event".equals(mode)) {
+            for (UserEvent event : events) {
+                kafkaTemplate.executeInTransaction(operations -> {
+                    operations.send(TOPIC, String.valueOf(event.getUserId()), event);
+                    return null;
+                });
+            }
+        } else {
+            kafkaTemplate.executeInTransaction(operations -> {
+                for (UserEvent event : events) {
+                    operations.send(TOPIC, String.valueOf(event.getUserId()), event);
+                }
+                return null;
+            });
+        }
+    }
+}
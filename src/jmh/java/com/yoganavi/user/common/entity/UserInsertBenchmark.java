@@ -0,0 +1,227 @@
+package com.yoganavi.user.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 사용자/이벤트 로그 INSERT 처리량 (IDENTITY vs TableGenerator pooled-lo + JDBC 배치)
+ * <p>
+ * H2(MySQL 모드) 인메모리 DB라 네트워크 왕복이 없으므로 실제 MySQL에서는 차이가 더 커진다. 엔티티는 Users/UserEventLog의 저장 컬럼만 옮긴 복사본으로,
+ * ID 생성 방식만 다르다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserInsertBenchmark {
+
+    private static final int IMPORT_SIZE = 100;
+
+    // identity: 변경 전 (INSERT마다 키 조회, 배치 불가), pooled: 변경 후
+    @Param({"identity", "pooled"})
+    private String strategy;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(IdentityUser.class)
+            .addAnnotatedClass(IdentityEventLog.class)
+            .addAnnotatedClass(PooledUser.class)
+            .addAnnotatedClass(PooledEventLog.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                "jdbc:h2:mem:insert-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+            .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+            .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+            .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    // 회원가입 한 건: 사용자 + 이벤트 로그를 한 트랜잭션으로 저장
+    @Benchmark
+    public void register() {
+        sessionFactory.inTransaction(session -> persistUserWithLog(session));
+    }
+
+    // 대량 가입/이벤트 처리: 한 트랜잭션에서 IMPORT_SIZE명 저장
+    @Benchmark
+    @OperationsPerInvocation(IMPORT_SIZE)
+    public void importBatch() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < IMPORT_SIZE; i++) {
+                persistUserWithLog(session);
+            }
+        });
+    }
+
+    private void persistUserWithLog(Session session) {
+        long n = sequence.incrementAndGet();
+        String email = "bench" + n + "@yoganavi.com";
+        String nickname = "bench" + n;
+        if ("identity".equals(strategy)) {
+            IdentityUser user = new IdentityUser(email, nickname);
+            session.persist(user);
+            session.persist(new IdentityEventLog(user.id));
+        } else {
+            PooledUser user = new PooledUser(email, nickname);
+            session.persist(user);
+            session.persist(new PooledEventLog(user.id));
+        }
+    }
+
+    @Entity
+    @Table(name = "identity_users")
+    public static class IdentityUser {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        @Column(nullable = false)
+        String pwd = "{bcrypt}$2a$10$benchmark";
+
+        @Column(unique = true, nullable = false)
+        String email;
+
+        @Column(unique = true, nullable = false, length = 30)
+        String nickname;
+
+        @Column(nullable = false)
+        String role = "STUDENT";
+
+        @Column(nullable = false)
+        Boolean isDeleted = false;
+
+        protected IdentityUser() {
+        }
+
+        IdentityUser(String email, String nickname) {
+            this.email = email;
+            this.nickname = nickname;
+        }
+    }
+
+    @Entity
+    @Table(name = "pooled_users")
+    public static class PooledUser {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "bench_user_id")
+        @TableGenerator(name = "bench_user_id", table = "bench_user_id_seq",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "users", allocationSize = 50)
+        Long id;
+
+        @Column(nullable = false)
+        String pwd = "{bcrypt}$2a$10$benchmark";
+
+        @Column(unique = true, nullable = false)
+        String email;
+
+        @Column(unique = true, nullable = false, length = 30)
+        String nickname;
+
+        @Column(nullable = false)
+        String role = "STUDENT";
+
+        @Column(nullable = false)
+        Boolean isDeleted = false;
+
+        protected PooledUser() {
+        }
+
+        PooledUser(String email, String nickname) {
+            this.email = email;
+            this.nickname = nickname;
+        }
+    }
+
+    @Entity
+    @Table(name = "identity_event_logs")
+    public static class IdentityEventLog {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        @Column(nullable = false)
+        Long userId;
+
+        @Column(nullable = false)
+        String eventType = "CREATED";
+
+        @Column(nullable = false)
+        String status = "STARTED";
+
+        @Column(nullable = false)
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        protected IdentityEventLog() {
+        }
+
+        IdentityEventLog(Long userId) {
+            this.userId = userId;
+        }
+    }
+
+    @Entity
+    @Table(name = "pooled_event_logs")
+    public static class PooledEventLog {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "bench_event_log_id")
+        @TableGenerator(name = "bench_event_log_id", table = "bench_event_log_id_seq",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "user_event_logs", allocationSize = 50)
+        Long id;
+
+        @Column(nullable = false)
+        Long userId;
+
+        @Column(nullable = false)
+        String eventType = "CREATED";
+
+        @Column(nullable = false)
+        String status = "STARTED";
+
+        @Column(nullable = false)
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        protected PooledEventLog() {
+        }
+
+        PooledEventLog(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.yoganavi.user.common.util;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * 요청마다 실행되는 JWT 생성/검증 경로 벤치마크 (Redis 저장 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "yoganavi-benchmark-secret-key-0123456789abcdef";
+    private static final String EMAIL = "bench@yoganavi.com";
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+    private String bearerToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources()
+            .addFirst(new MapPropertySource("benchmark", Map.of("jwt.secret", SECRET)));
+        JwtKeyRing keyRing = new JwtKeyRing(environment);
+        keyRing.init();
+
+        jwtUtil = new JwtUtil(null, null, null, null, null, keyRing, new SimpleMeterRegistry());
+        setField("accessTokenExpiration", TimeUnit.HOURS.toMillis(1));
+        setField("refreshTokenExpiration", TimeUnit.DAYS.toMillis(7));
+        setField("claimsCacheMaxSize", 10000L);
+        setField("claimsCacheTtl", TimeUnit.MINUTES.toMillis(1));
+        jwtUtil.init();
+
+        accessToken = jwtUtil.buildAccessToken(1L, EMAIL, "STUDENT", 0L, "family");
+        bearerToken = "Bearer " + accessToken;
+    }
+
+    @Benchmark
+    public String buildAccessToken() {
+        return jwtUtil.buildAccessToken(1L, EMAIL, "STUDENT", 0L, "family");
+    }
+
+    @Benchmark
+    public String buildRefreshToken() {
+        return jwtUtil.buildRefreshToken(EMAIL, "family", "jti");
+    }
+
+    // 클레임 캐시 적중 (토큰 다이제스트 계산 포함)
+    @Benchmark
+    public Claims validateToken() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    // 캐시 없는 기준: 매번 파싱과 서명 검증
+    @Benchmark
+    public Claims parseToken() {
+        return jwtUtil.parseToken(accessToken);
+    }
+
+    @Benchmark
+    public String extractToken() {
+        return jwtUtil.extractToken(bearerToken);
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = JwtUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtUtil, value);
+    }
+}
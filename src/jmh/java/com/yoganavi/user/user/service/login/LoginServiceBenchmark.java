@@ -0,0 +1,24 @@
+package com.yoganavi.user.user.service.login;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoginServiceBenchmark {
+
+    private String role = "teacher";
+
+    @Benchmark
+    public List<GrantedAuthority> getGrantedAuthorities() {
+        return LoginServiceImpl.getGrantedAuthorities(role);
+    }
+}
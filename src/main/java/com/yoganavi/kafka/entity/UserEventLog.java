@@ -7,6 +7,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.Setter;
@@ -20,7 +21,10 @@ import lombok.Setter;
 public class UserEventLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_event_log_id")
+    @TableGenerator(name = "user_event_log_id", table = "user_event_log_id_seq",
+        pkColumnName = "sequence_name", valueColumnName = "next_val",
+        pkColumnValue = "user_event_logs", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
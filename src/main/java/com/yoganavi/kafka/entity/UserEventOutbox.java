@@ -0,0 +1,95 @@
+package com.yoganavi.kafka.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+
+// 사용자 이벤트 발행 대기열 (사용자 변경과 같은 DB 트랜잭션으로 저장)
+@Entity
+@Getter
+@Setter
+@Table(name = "user_event_outbox", indexes = {
+    @Index(name = "idx_user_event_outbox_pending", columnList = "status, id"),
+    @Index(name = "idx_user_event_outbox_sent", columnList = "status, sentAt")
+})
+public class UserEventOutbox {
+
+    public static final String PENDING = "PENDING";
+    public static final String SENT = "SENT";
+    public static final String FAILED = "FAILED";
+
+    // 저장 순서대로 발행하도록 IDENTITY 사용 (노드별로 구간을 받는 pooled 방식은 순서가 섞임)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    @Column(nullable = false, length = 100)
+    private String messageKey;
+
+    // UserEvent JSON
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false, length = 20)
+    private String status;     // PENDING, SENT, FAILED
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column
+    private Instant sentAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = Instant.now();
+    }
+
+    public static UserEventOutbox pending(String topic, String messageKey, String payload) {
+        UserEventOutbox outbox = new UserEventOutbox();
+        outbox.setTopic(topic);
+        outbox.setMessageKey(messageKey);
+        outbox.setPayload(payload);
+        outbox.setStatus(PENDING);
+        return outbox;
+    }
+
+    public void sent(Instant now) {
+        this.status = SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    // Kafka 오류: 대기 상태로 두고 다음 주기에 다시 발행
+    public void retry(String error) {
+        this.attempts++;
+        this.lastError = truncate(error);
+    }
+
+    // 발행할 수 없는 이벤트 (payload 손상 등)
+    public void fail(String error) {
+        this.attempts++;
+        this.status = FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private String truncate(String error) {
+        return error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
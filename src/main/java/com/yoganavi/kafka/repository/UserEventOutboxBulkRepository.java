@@ -0,0 +1,36 @@
+package com.yoganavi.kafka.repository;
+
+import com.yoganavi.kafka.entity.UserEventOutbox;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 대량 가입용 이벤트 발행 대기열 JDBC 저장소
+ * <p>
+ * IDENTITY 키는 Hibernate가 배치로 저장하지 못하므로, 호출한 트랜잭션의 커넥션으로 직접 배치 INSERT 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserEventOutboxBulkRepository {
+
+    private static final String INSERT_OUTBOX = "INSERT INTO user_event_outbox "
+        + "(topic, message_key, payload, status, attempts, created_at) "
+        + "VALUES (:topic, :messageKey, :payload, :status, 0, CURRENT_TIMESTAMP(6))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<UserEventOutbox> events) {
+        SqlParameterSource[] params = events.stream()
+            .map(event -> new MapSqlParameterSource()
+                .addValue("topic", event.getTopic())
+                .addValue("messageKey", event.getMessageKey())
+                .addValue("payload", event.getPayload())
+                .addValue("status", event.getStatus()))
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX, params);
+    }
+}
@@ -0,0 +1,39 @@
+package com.yoganavi.kafka.repository;
+
+import com.yoganavi.kafka.entity.UserEventOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserEventOutboxRepository extends JpaRepository<UserEventOutbox, Long> {
+
+    /**
+     * 발행할 이벤트를 저장 순서대로 조회. 다른 트랜잭션이 잠근 행은 건너뛴다 (SELECT ... FOR UPDATE SKIP LOCKED)
+     *
+     * @param pageable 조회 개수
+     * @return 발행 대상 이벤트
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM UserEventOutbox o WHERE o.status = 'PENDING' ORDER BY o.id")
+    List<UserEventOutbox> findPendingForUpdate(Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM UserEventOutbox o WHERE o.status = 'SENT' AND o.sentAt < :before")
+    int deleteSentBefore(@Param("before") Instant before);
+}
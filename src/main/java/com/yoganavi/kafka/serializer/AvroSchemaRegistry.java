@@ -0,0 +1,105 @@
+package com.yoganavi.kafka.serializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.SchemaCompatibility.SchemaCompatibilityType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 기반 Avro 스키마 저장소 (스키마 레지스트리 대용)
+ * <p>
+ * 색인 파일(id=스키마 경로)에 등록된 스키마를 읽는다. 주제는 스키마 파일이 있는 디렉터리 이름이다. 메시지는 주제의 최신 스키마로 쓰고 앞에 스키마 id를
+ * 붙이며, 읽을 때는 id로 쓴 스키마를 찾아 최신 스키마로 변환한다. 새 버전이 이전 버전으로 쓴 메시지를 읽을 수 없으면 시작 시 실패한다.
+ */
+@Slf4j
+@Component
+public class AvroSchemaRegistry {
+
+    private final Map<Integer, Schema> schemas = new HashMap<>();
+    private final Map<String, Integer> latestIds = new HashMap<>();
+
+    public AvroSchemaRegistry(
+        @Value("${kafka.schema.registry:avro/registry.properties}") String index) {
+        Properties entries = new Properties();
+        try (InputStream in = new ClassPathResource(index).getInputStream()) {
+            entries.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Avro 스키마 색인을 읽을 수 없습니다: " + index, e);
+        }
+
+        // id 순서로 읽어 주제별 버전 목록 구성
+        Map<Integer, String> paths = new TreeMap<>();
+        entries.forEach((id, path) -> paths.put(Integer.parseInt(((String) id).trim()),
+            ((String) path).trim()));
+        Map<String, List<Integer>> subjects = new HashMap<>();
+        paths.forEach((id, path) -> {
+            schemas.put(id, parse(path));
+            subjects.computeIfAbsent(subject(path), key -> new ArrayList<>()).add(id);
+        });
+
+        subjects.forEach((subject, ids) -> {
+            checkCompatibility(subject, ids);
+            latestIds.put(subject, ids.get(ids.size() - 1));
+        });
+        log.info("Avro 스키마 {}개 등록: {}", schemas.size(), latestIds);
+    }
+
+    /**
+     * 주제의 최신 스키마 id
+     */
+    public int latestId(String subject) {
+        Integer id = latestIds.get(subject);
+        if (id == null) {
+            throw new IllegalArgumentException("등록되지 않은 스키마 주제입니다: " + subject);
+        }
+        return id;
+    }
+
+    public Schema get(int id) {
+        Schema schema = schemas.get(id);
+        if (schema == null) {
+            throw new IllegalArgumentException("등록되지 않은 스키마 id입니다: " + id);
+        }
+        return schema;
+    }
+
+    // 새 버전은 이전 모든 버전으로 쓴 메시지를 읽을 수 있어야 함
+    private void checkCompatibility(String subject, List<Integer> ids) {
+        for (int reader = 1; reader < ids.size(); reader++) {
+            for (int writer = 0; writer < reader; writer++) {
+                SchemaCompatibilityType result = SchemaCompatibility.checkReaderWriterCompatibility(
+                    schemas.get(ids.get(reader)), schemas.get(ids.get(writer))).getType();
+                if (result != SchemaCompatibilityType.COMPATIBLE) {
+                    throw new IllegalStateException(String.format(
+                        "%s 스키마 %d가 이전 스키마 %d로 쓴 메시지를 읽을 수 없습니다.", subject,
+                        ids.get(reader), ids.get(writer)));
+                }
+            }
+        }
+    }
+
+    private Schema parse(String path) {
+        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Avro 스키마를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private String subject(String path) {
+        String directory = path.substring(0, path.lastIndexOf('/'));
+        return directory.substring(directory.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,164 @@
+package com.yoganavi.kafka.serializer;
+
+import com.yoganavi.kafka.event.UserEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.GenericRecordBuilder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserEvent Avro 변환
+ * <p>
+ * 메시지 형식은 [0x00][스키마 id 4바이트][Avro 바이너리]이다. JSON 메시지는 '{'로 시작하므로 첫 바이트로 형식을 구분할 수 있다. 필드 이름과 타입
+ * 헤더 없이 값만 쓰고, 시각은 마이크로초 long, enum은 순번으로 저장한다.
+ */
+@Component
+public class UserEventAvroCodec {
+
+    public static final String SUBJECT = "user-event";
+
+    private static final byte MAGIC_BYTE = 0;
+    private static final int HEADER_LENGTH = 5;
+
+    private final AvroSchemaRegistry registry;
+    private final int schemaId;
+    private final Schema schema;
+    private final GenericDatumWriter<GenericRecord> writer;
+    private final Map<Integer, GenericDatumReader<GenericRecord>> readers =
+        new ConcurrentHashMap<>();
+
+    public UserEventAvroCodec(AvroSchemaRegistry registry) {
+        this.registry = registry;
+        this.schemaId = registry.latestId(SUBJECT);
+        this.schema = registry.get(schemaId);
+        this.writer = new GenericDatumWriter<>(schema);
+    }
+
+    public static boolean isAvro(byte[] data) {
+        return data != null && data.length >= HEADER_LENGTH && data[0] == MAGIC_BYTE;
+    }
+
+    public byte[] encode(UserEvent event) {
+        GenericRecordBuilder builder = new GenericRecordBuilder(schema);
+        set(builder, "transactionId", event.getTransactionId());
+        set(builder, "userId", event.getUserId());
+        set(builder, "email", event.getEmail());
+        set(builder, "nickname", event.getNickname());
+        set(builder, "profileImageUrl", event.getProfileImageUrl());
+        set(builder, "profileImageUrlSmall", event.getProfileImageUrlSmall());
+        set(builder, "role", event.getRole());
+        set(builder, "content", event.getContent());
+        set(builder, "eventType", symbol("eventType", event.getEventType()));
+        set(builder, "isDeleted", event.getIsDeleted());
+        set(builder, "status", symbol("status", event.getStatus()));
+        set(builder, "timestamp", toMicros(event.getTimestamp()));
+        set(builder, "errorMessage", event.getErrorMessage());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        out.write(MAGIC_BYTE);
+        out.writeBytes(ByteBuffer.allocate(4).putInt(schemaId).array());
+        try {
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+            writer.write(builder.build(), encoder);
+            encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("UserEvent Avro 변환 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    public UserEvent decode(byte[] data) {
+        if (!isAvro(data)) {
+            throw new SerializationException("Avro 메시지가 아닙니다.");
+        }
+        int writerId = ByteBuffer.wrap(data, 1, 4).getInt();
+        GenericRecord record;
+        try {
+            // 쓴 스키마와 최신 스키마가 다르면 최신 스키마 기준으로 변환 (추가된 필드는 기본값)
+            GenericDatumReader<GenericRecord> reader = readers.computeIfAbsent(writerId,
+                id -> new GenericDatumReader<>(registry.get(id), schema));
+            record = reader.read(null, DecoderFactory.get()
+                .binaryDecoder(data, HEADER_LENGTH, data.length - HEADER_LENGTH, null));
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("UserEvent Avro 복원 실패: schema " + writerId, e);
+        }
+
+        return UserEvent.builder()
+            .transactionId(string(record, "transactionId"))
+            .userId((Long) value(record, "userId"))
+            .email(string(record, "email"))
+            .nickname(string(record, "nickname"))
+            .profileImageUrl(string(record, "profileImageUrl"))
+            .profileImageUrlSmall(string(record, "profileImageUrlSmall"))
+            .role(string(record, "role"))
+            .content(string(record, "content"))
+            .eventType(enumValue(UserEvent.EventType.class, value(record, "eventType")))
+            .isDeleted((Boolean) value(record, "isDeleted"))
+            .status(enumValue(UserEvent.EventStatus.class, value(record, "status")))
+            .timestamp(fromMicros((Long) value(record, "timestamp")))
+            .errorMessage(string(record, "errorMessage"))
+            .build();
+    }
+
+    // 스키마에서 빠진 필드는 쓰지 않음
+    private void set(GenericRecordBuilder builder, String field, Object value) {
+        if (schema.getField(field) != null) {
+            builder.set(field, value);
+        }
+    }
+
+    private GenericData.EnumSymbol symbol(String field, Enum<?> value) {
+        if (value == null || schema.getField(field) == null) {
+            return null;
+        }
+        Schema union = schema.getField(field).schema();
+        Schema enumSchema = union.getTypes().stream()
+            .filter(type -> type.getType() == Schema.Type.ENUM)
+            .findFirst()
+            .orElseThrow();
+        return new GenericData.EnumSymbol(enumSchema, value.name());
+    }
+
+    private Object value(GenericRecord record, String field) {
+        return record.hasField(field) ? record.get(field) : null;
+    }
+
+    // Avro 문자열은 Utf8로 읽힘
+    private String string(GenericRecord record, String field) {
+        Object value = value(record, field);
+        return value == null ? null : value.toString();
+    }
+
+    private <E extends Enum<E>> E enumValue(Class<E> type, Object value) {
+        return value == null ? null : Enum.valueOf(type, value.toString());
+    }
+
+    private Long toMicros(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return null;
+        }
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + timestamp.getNano() / 1_000;
+    }
+
+    private LocalDateTime fromMicros(Long micros) {
+        if (micros == null) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+            (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,50 @@
+package com.yoganavi.kafka.serializer;
+
+import com.yoganavi.kafka.event.UserEvent;
+import java.util.Map;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/**
+ * UserEvent 역직렬화
+ * <p>
+ * 첫 바이트로 형식을 판단해 Avro 메시지는 스키마 id로 변환하고, 나머지는 JSON으로 읽는다. 토픽을 Avro로 바꾸는 동안 두 형식이 섞여 있어도 처리된다.
+ */
+public class UserEventDeserializer implements Deserializer<UserEvent> {
+
+    private final UserEventAvroCodec codec;
+    private final JsonDeserializer<UserEvent> jsonDeserializer;
+
+    public UserEventDeserializer(UserEventAvroCodec codec,
+        JsonDeserializer<UserEvent> jsonDeserializer) {
+        this.codec = codec;
+        this.jsonDeserializer = jsonDeserializer;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public UserEvent deserialize(String topic, byte[] data) {
+        if (UserEventAvroCodec.isAvro(data)) {
+            return codec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public UserEvent deserialize(String topic, Headers headers, byte[] data) {
+        if (UserEventAvroCodec.isAvro(data)) {
+            return codec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
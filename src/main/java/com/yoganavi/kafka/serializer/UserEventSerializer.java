@@ -0,0 +1,48 @@
+package com.yoganavi.kafka.serializer;
+
+import com.yoganavi.kafka.event.UserEvent;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * 토픽별 UserEvent 직렬화
+ * <p>
+ * avro-topics로 지정한 토픽의 UserEvent는 Avro로, 나머지(다른 토픽, UserEvent가 아닌 값)는 기존처럼 JSON(타입 헤더 포함)으로 보낸다.
+ */
+public class UserEventSerializer implements Serializer<Object> {
+
+    private final UserEventAvroCodec codec;
+    private final Set<String> avroTopics;
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+
+    public UserEventSerializer(UserEventAvroCodec codec, Set<String> avroTopics) {
+        this.codec = codec;
+        this.avroTopics = avroTopics;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data instanceof UserEvent event && avroTopics.contains(topic)) {
+            return codec.encode(event);
+        }
+        return jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
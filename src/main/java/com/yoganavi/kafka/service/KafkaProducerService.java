@@ -1,27 +1,36 @@
 package com.yoganavi.kafka.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoganavi.kafka.entity.UserEventOutbox;
 import com.yoganavi.kafka.event.UserEvent;
 import com.yoganavi.kafka.event.UserEvent.EventStatus;
+import com.yoganavi.kafka.repository.UserEventOutboxBulkRepository;
+import com.yoganavi.kafka.repository.UserEventOutboxRepository;
 import com.yoganavi.user.common.entity.Users;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.common.errors.TimeoutException;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
-
-import java.util.concurrent.CompletableFuture;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 사용자 생성/변경/탈퇴 이벤트 발행
+ * <p>
+ * Kafka로 바로 보내지 않고 호출한 DB 트랜잭션 안에서 발행 대기열(user_event_outbox)에 저장한다. 사용자 변경이 롤백되면 이벤트도 함께 사라지고,
+ * 커밋된 이벤트는 {@link UserEventOutboxRelay}가 배치마다 Kafka 트랜잭션 하나로 발행한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KafkaProducerService {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final UserEventOutboxRepository userEventOutboxRepository;
+    private final UserEventOutboxBulkRepository userEventOutboxBulkRepository;
+    private final ObjectMapper objectMapper;
 
     @Value("${spring.kafka.topics.user-created}")
     private String userCreatedTopic;
@@ -34,29 +43,47 @@ public class KafkaProducerService {
 
     @Transactional
     public void publishUserCreatedEvent(Users user) {
-        UserEvent event = createUserEvent(user, UserEvent.EventType.CREATED);
-        kafkaTemplate.executeInTransaction(operations -> {
-            sendMessage(userCreatedTopic, String.valueOf(user.getUserId()), event);
-            return null;
-        });
+        enqueue(userCreatedTopic, user, UserEvent.EventType.CREATED);
+    }
+
+    /**
+     * 여러 사용자의 생성 이벤트를 호출한 트랜잭션 안에서 한 번에 저장 (대량 가입)
+     *
+     * @param users 생성된 사용자 목록
+     */
+    @Transactional
+    public void publishUserCreatedEvents(List<Users> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        userEventOutboxBulkRepository.insertAll(users.stream()
+            .map(user -> toOutbox(userCreatedTopic, user, UserEvent.EventType.CREATED))
+            .toList());
     }
 
     @Transactional
     public void publishUserUpdatedEvent(Users user) {
-        UserEvent event = createUserEvent(user, UserEvent.EventType.UPDATED);
-        kafkaTemplate.executeInTransaction(operations -> {
-            sendMessage(userUpdatedTopic, String.valueOf(user.getUserId()), event);
-            return null;
-        });
+        enqueue(userUpdatedTopic, user, UserEvent.EventType.UPDATED);
     }
 
     @Transactional
     public void publishUserDeletedEvent(Users user) {
-        UserEvent event = createUserEvent(user, UserEvent.EventType.DELETED);
-        kafkaTemplate.executeInTransaction(operations -> {
-            sendMessage(userDeletedTopic, String.valueOf(user.getUserId()), event);
-            return null;
-        });
+        enqueue(userDeletedTopic, user, UserEvent.EventType.DELETED);
+    }
+
+    private void enqueue(String topic, Users user, UserEvent.EventType eventType) {
+        userEventOutboxRepository.save(toOutbox(topic, user, eventType));
+        log.debug("토픽 {}: 사용자 {} {} 이벤트 발행 대기", topic, user.getUserId(), eventType);
+    }
+
+    private UserEventOutbox toOutbox(String topic, Users user, UserEvent.EventType eventType) {
+        UserEvent event = createUserEvent(user, eventType);
+        try {
+            return UserEventOutbox.pending(topic, String.valueOf(user.getUserId()),
+                objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("사용자 이벤트 직렬화 실패", e);
+        }
     }
 
     private UserEvent createUserEvent(Users user, UserEvent.EventType eventType) {
@@ -74,28 +101,4 @@ public class KafkaProducerService {
             .timestamp(LocalDateTime.now())
             .build();
     }
-
-    private void sendMessage(String topic, String key, UserEvent message) {
-        try {
-            CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(topic, key, message);
-
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    log.info("토픽 {}: {}으로 메시지 전송 성공",
-                        topic, message);
-                } else {
-                    log.error("토픽 {}: {}으로 메시지 전송 실패",
-                        topic, ex.getMessage());
-                    throw new RuntimeException("메시지 전송 실패", ex);
-                }
-            });
-        } catch (TimeoutException e) {
-            log.error("메시지 전송 타임아웃: {}", e.getMessage());
-            throw new RuntimeException("메시지 전송 타임아웃", e);
-        } catch (Exception e) {
-            log.error("메시지 전송 중 에러 발생: {}", e.getMessage());
-            throw new RuntimeException("메시지 전송 중 오류 발생", e);
-        }
-    }
-}
\ No newline at end of file
+}
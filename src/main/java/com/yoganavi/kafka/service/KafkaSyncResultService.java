@@ -4,16 +4,36 @@ import com.yoganavi.kafka.entity.UserEventLog;
 import com.yoganavi.kafka.event.UserEvent;
 import com.yoganavi.kafka.event.UserEvent.EventStatus;
 import com.yoganavi.kafka.repository.UserEventLogRepository;
-import com.yoganavi.user.common.entity.Users;
+import com.yoganavi.kafka.service.KeyOrderedExecutor.Failure;
 import com.yoganavi.user.common.repository.UserRepository;
-import java.time.Instant;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 회원가입 동기화 결과 처리 (배치 리스너)
+ * <p>
+ * poll 한 번에 받은 결과 중 FAILED만 모아, 존재하는 사용자를 한 번에 조회하고 한 문장으로 삭제한 뒤 보상 로그를 배치 INSERT 한다. 일괄 처리가 실패하면
+ * 사용자별 순서를 지키며 병렬로 한 건씩 다시 처리하고, 가장 앞선 실패 레코드는 {@link BatchListenerFailedException}으로 위치를 알려 그 앞까지
+ * 오프셋을 커밋하고 해당 레코드만 DLQ로 보낸다.
+ * <p>
+ * 일괄 삭제({@code deleteAllByIdInBatch})는 JPA cascade와 엔티티 생명주기 처리를 거치지 않는 DELETE 한 문장이다. 연관 데이터가 있는 사용자는 FK
+ * 제약 위반으로 트랜잭션 전체가 롤백되고, 한 건씩 처리하는 경로에서 {@code deleteById}로 연관 데이터까지 삭제된다. 이 동작은 일괄 경로가 FK 위반으로
+ * 실패해 한 건씩 처리로 넘어가는 것에 의존하므로, 연관 테이블의 FK를 ON DELETE CASCADE로 바꾸거나 제약을 없애면 일괄 경로도 함께 바꿔야 한다.
+ * <p>
+ * 보상으로 삭제된 사용자의 이메일/닉네임은 {@link com.yoganavi.user.common.util.UserExistenceFilter}에 남는다. Bloom filter는 삭제할 수
+ * 없으므로 오탐으로 남아 가입 시 DB 조회로 판정되며, 다시 가입하는 데는 문제가 없다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -21,33 +41,91 @@ public class KafkaSyncResultService {
 
     private final UserRepository userRepository;
     private final UserEventLogRepository eventLogRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final KeyOrderedExecutor keyOrderedExecutor;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+    }
+
+    @KafkaListener(topics = "${spring.kafka.topics.user-sync-result}",
+        containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleUserSyncResults(List<UserEvent> events) {
+        List<UserEvent> failed = events.stream()
+            .filter(event -> event.getStatus() == EventStatus.FAILED)
+            .toList();
+        if (failed.isEmpty()) {
+            return;
+        }
 
-    @Transactional(isolation = Isolation.SERIALIZABLE)
-    @KafkaListener(topics = "${spring.kafka.topics.user-sync-result}")
-    public void handleUserSyncResult(UserEvent event) {
         try {
-            if (event.getStatus() == EventStatus.FAILED) {
-                compensateFailedRegistration(event);
-            }
+            compensateFailedRegistrations(failed);
         } catch (Exception e) {
-            log.error("보상 트랜잭션 실패. userId: {}, transactionId: {}",
-                event.getUserId(), event.getTransactionId(), e);
-            handleCompensationFailure(event, e);
+            // 연관 데이터가 있는 사용자 등: 한 건씩 처리해 실패한 레코드를 찾음 (사용자 간 병렬)
+            log.warn("일괄 보상 트랜잭션 실패, 한 건씩 재처리: {}건, {}", failed.size(),
+                e.getMessage());
+            Failure failure = keyOrderedExecutor.process(events, UserEvent::getUserId, event -> {
+                if (event.getStatus() == EventStatus.FAILED) {
+                    transactionTemplate.executeWithoutResult(
+                        status -> compensateFailedRegistration(event));
+                }
+            });
+            if (failure != null) {
+                UserEvent event = events.get(failure.index());
+                log.error("보상 트랜잭션 실패. userId: {}, transactionId: {}",
+                    event.getUserId(), event.getTransactionId(), failure.cause());
+                handleCompensationFailure(event, failure.cause(), failure.index());
+            }
         }
     }
 
-    private void handleCompensationFailure(UserEvent event, Exception e) {
+    private void compensateFailedRegistrations(List<UserEvent> failed) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        failed.forEach(event -> userIds.add(event.getUserId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 멱등성 체크
+            List<Long> existing = userRepository.findExistingIds(userIds);
+            if (existing.size() < userIds.size()) {
+                log.info("보상 트랜잭션 불필요: 사용자가 이미 존재하지 않음. {}건",
+                    userIds.size() - existing.size());
+            }
+            if (existing.isEmpty()) {
+                return;
+            }
+
+            // 사용자 삭제 (한 문장)
+            userRepository.deleteAllByIdInBatch(existing);
+
+            // 보상 트랜잭션 완료 로깅 (배치 INSERT)
+            List<UserEventLog> eventLogs = new ArrayList<>(existing.size());
+            for (Long userId : existing) {
+                UserEventLog eventLog = UserEventLog.start(userId, "COMPENSATION");
+                eventLog.complete();
+                eventLogs.add(eventLog);
+            }
+            eventLogRepository.saveAll(eventLogs);
+
+            log.info("보상 트랜잭션 완료: {}건, userIds: {}", existing.size(), existing);
+        });
+    }
+
+    private void handleCompensationFailure(UserEvent event, Exception e, int index) {
         // 실패한 보상 트랜잭션 로깅
         UserEventLog eventLog = UserEventLog.start(event.getUserId(), "COMPENSATION_FAILED");
         eventLog.fail(e.getMessage());
-        eventLogRepository.save(eventLog);
+        transactionTemplate.executeWithoutResult(status -> eventLogRepository.save(eventLog));
 
-        throw new RegistrationRollbackException(String.format(
+        throw new BatchListenerFailedException(String.format(
             "회원가입 보상 트랜잭션 처리 중 오류가 발생했습니다. userId: %d, transactionId: %s, error: %s",
             event.getUserId(),
             event.getTransactionId(),
             e.getMessage()
-        ));
+        ), new RegistrationRollbackException(e.getMessage()), index);
     }
 
     private void compensateFailedRegistration(UserEvent event) {
@@ -57,23 +135,16 @@ public class KafkaSyncResultService {
             return;
         }
 
-        UserEventLog eventLog = UserEventLog.start(event.getUserId(), "COMPENSATION");
-        try {
-            // 사용자 삭제
-            userRepository.deleteById(event.getUserId());
-
-            // 보상 트랜잭션 완료 로깅
-            eventLog.complete();
-            eventLogRepository.save(eventLog);
+        // 사용자 삭제 (연관 데이터까지 삭제)
+        userRepository.deleteById(event.getUserId());
 
-            log.info("보상 트랜잭션 완료. userId: {}, transactionId: {}",
-                event.getUserId(), event.getTransactionId());
+        // 보상 트랜잭션 완료 로깅
+        UserEventLog eventLog = UserEventLog.start(event.getUserId(), "COMPENSATION");
+        eventLog.complete();
+        eventLogRepository.save(eventLog);
 
-        } catch (Exception e) {
-            eventLog.fail(e.getMessage());
-            eventLogRepository.save(eventLog);
-            throw e;
-        }
+        log.info("보상 트랜잭션 완료. userId: {}, transactionId: {}",
+            event.getUserId(), event.getTransactionId());
     }
 
     // DLQ 리스너
@@ -90,4 +161,4 @@ public class KafkaSyncResultService {
         }
     }
 
-}
\ No newline at end of file
+}
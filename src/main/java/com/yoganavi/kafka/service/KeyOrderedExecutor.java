@@ -0,0 +1,108 @@
+package com.yoganavi.kafka.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키 순서를 지키는 배치 병렬 처리 (parallel consumer 방식)
+ * <p>
+ * 배치 안의 레코드를 키별로 묶어, 같은 키는 받은 순서대로 한 스레드에서 처리하고 다른 키는 동시에 처리한다. 같은 키는 같은 파티션에 있으므로 파티션 안의
+ * 키 순서가 유지된다. 모든 처리가 끝난 뒤 반환하므로 배치 단위 오프셋 커밋과 함께 쓸 수 있다. 한 키에서 실패하면 그 키의 뒤 레코드는 처리하지 않는다.
+ */
+@Slf4j
+@Component
+public class KeyOrderedExecutor {
+
+    // 1이면 받은 순서대로 한 건씩 처리
+    @Value("${kafka.consumer.key-parallelism:8}")
+    private int parallelism;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        if (parallelism <= 1) {
+            return;
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "kafka-key-ordered-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 키 순서를 지키며 병렬 처리
+     *
+     * @param items   배치 레코드 (받은 순서)
+     * @param keyOf   순서를 지킬 키
+     * @param handler 레코드 처리
+     * @return 실패한 레코드 중 가장 앞선 위치와 원인, 모두 성공하면 null
+     */
+    public <T> Failure process(List<T> items, Function<T, ?> keyOf, Consumer<T> handler) {
+        if (executor == null) {
+            for (int i = 0; i < items.size(); i++) {
+                try {
+                    handler.accept(items.get(i));
+                } catch (Exception e) {
+                    return new Failure(i, e);
+                }
+            }
+            return null;
+        }
+
+        Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            groups.computeIfAbsent(keyOf.apply(items.get(i)), key -> new ArrayList<>()).add(i);
+        }
+
+        List<CompletableFuture<Failure>> futures = groups.values().stream()
+            .map(indexes -> CompletableFuture.supplyAsync(() -> {
+                for (int index : indexes) {
+                    try {
+                        handler.accept(items.get(index));
+                    } catch (Exception e) {
+                        return new Failure(index, e);
+                    }
+                }
+                return null;
+            }, executor))
+            .toList();
+
+        // 실패한 위치 이후는 다시 전달되므로, 앞선 실패 하나만 알림
+        Failure first = null;
+        for (CompletableFuture<Failure> future : futures) {
+            Failure failure = future.join();
+            if (failure != null && (first == null || failure.index() < first.index())) {
+                first = failure;
+            }
+        }
+        log.debug("키 순서 병렬 처리: {}건, 키 {}개", items.size(), groups.size());
+        return first;
+    }
+
+    public record Failure(int index, Exception cause) {
+
+    }
+}
@@ -0,0 +1,214 @@
+package com.yoganavi.kafka.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoganavi.kafka.entity.UserEventOutbox;
+import com.yoganavi.kafka.event.UserEvent;
+import com.yoganavi.kafka.repository.UserEventOutboxRepository;
+import com.yoganavi.user.common.util.RedisLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자 이벤트 발행 대기열 처리
+ * <p>
+ * 주기적으로 대기 중인 이벤트를 batch-size개씩 저장 순서대로 잠가 가져오고, 배치마다 Kafka 트랜잭션 하나로 발행한 뒤 같은 DB 트랜잭션에서 발행 완료로
+ * 표시한다. Kafka 커밋 후 DB 커밋 전에 중단되면 같은 이벤트가 다시 발행될 수 있으므로(최소 한 번) 컨슈머는 transactionId로 중복을 걸러야 한다.
+ * <p>
+ * 같은 사용자의 이벤트 순서가 바뀌지 않도록 Redis 잠금으로 한 노드만 발행한다. Kafka 오류가 나면 해당 배치를 대기 상태로 두고 백오프 후 맨 앞부터
+ * 다시 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventOutboxRelay {
+
+    private static final String LOCK_KEY = "user:outbox:relay:lock";
+
+    private final UserEventOutboxRepository userEventOutboxRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final RedisLock redisLock;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kafka.outbox.batch-size:200}")
+    private int batchSize;
+
+    // 발행 중 노드가 죽으면 이 시간 뒤 다른 노드가 이어서 발행
+    @Value("${kafka.outbox.lock-ttl:30000}")
+    private long lockTtl;
+
+    @Value("${kafka.outbox.backoff-base:1000}")
+    private long backoffBase;
+
+    @Value("${kafka.outbox.backoff-max:60000}")
+    private long backoffMax;
+
+    // 발행 완료 이벤트 보관 시간
+    @Value("${kafka.outbox.retention:604800000}")
+    private long retention;
+
+    private TransactionTemplate transactionTemplate;
+    private Timer batchTimer;
+    private Timer deliveryDelayTimer;
+    private Counter publishedCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+
+    // 스케줄러 스레드에서만 변경
+    private int consecutiveFailures;
+    private long retryAt;
+
+    @PostConstruct
+    public void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchTimer = Timer.builder("user.outbox.batch")
+            .description("사용자 이벤트 배치 발행 시간")
+            .register(meterRegistry);
+        this.deliveryDelayTimer = Timer.builder("user.outbox.delay")
+            .description("사용자 이벤트 저장부터 발행까지 걸린 시간")
+            .register(meterRegistry);
+        this.publishedCounter = outboxCounter("published");
+        this.retriedCounter = outboxCounter("retried");
+        this.failedCounter = outboxCounter("failed");
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.outbox.poll-interval:200}")
+    public void drain() {
+        if (System.currentTimeMillis() < retryAt) {
+            return;
+        }
+        Duration ttl = Duration.ofMillis(lockTtl);
+        String lockToken = redisLock.tryLock(LOCK_KEY, ttl);
+        if (lockToken == null) {
+            return;
+        }
+
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+                // 잠금이 만료되어 다른 노드가 발행 중이면 순서가 섞이지 않도록 중단
+            } while (relayed == batchSize && extendLock(lockToken, ttl));
+
+            if (relayed < 0) {
+                consecutiveFailures++;
+                long backoff = Math.min(backoffMax,
+                    backoffBase * (1L << Math.min(consecutiveFailures - 1, 20)));
+                retryAt = System.currentTimeMillis() + backoff;
+                log.warn("사용자 이벤트 발행 실패, {}ms 후 재시도", backoff);
+            } else {
+                consecutiveFailures = 0;
+            }
+        } catch (Exception e) {
+            // DB 오류: 잠근 행은 롤백으로 풀리고 다음 주기에 다시 시도
+            log.error("사용자 이벤트 발행 대기열 처리 실패", e);
+        } finally {
+            redisLock.unlock(LOCK_KEY, lockToken);
+        }
+    }
+
+    private boolean extendLock(String lockToken, Duration ttl) {
+        if (redisLock.extend(LOCK_KEY, lockToken, ttl)) {
+            return true;
+        }
+        log.warn("사용자 이벤트 발행 잠금 만료, 이번 주기 중단");
+        return false;
+    }
+
+    /**
+     * 대기 중인 이벤트 한 배치 발행
+     *
+     * @return 처리한 이벤트 수, Kafka 발행에 실패하면 -1
+     */
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<UserEventOutbox> batch = userEventOutboxRepository.findPendingForUpdate(
+                PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            List<UserEventOutbox> sendable = new ArrayList<>(batch.size());
+            List<UserEvent> events = new ArrayList<>(batch.size());
+            for (UserEventOutbox outbox : batch) {
+                try {
+                    events.add(objectMapper.readValue(outbox.getPayload(), UserEvent.class));
+                    sendable.add(outbox);
+                } catch (Exception e) {
+                    // 다시 시도해도 발행할 수 없으므로 건너뛰고 뒤 이벤트를 막지 않음
+                    outbox.fail(e.getMessage());
+                    failedCounter.increment();
+                    log.error("사용자 이벤트 변환 실패: outbox {}, {}", outbox.getId(),
+                        e.getMessage());
+                }
+            }
+            if (sendable.isEmpty()) {
+                return batch.size();
+            }
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                kafkaTemplate.executeInTransaction(operations -> {
+                    for (int i = 0; i < sendable.size(); i++) {
+                        UserEventOutbox outbox = sendable.get(i);
+                        operations.send(outbox.getTopic(), outbox.getMessageKey(),
+                            events.get(i));
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                // 대기 상태 그대로 시도 횟수와 원인만 기록하고 커밋해 잠금 해제
+                sendable.forEach(outbox -> outbox.retry(e.getMessage()));
+                retriedCounter.increment(sendable.size());
+                log.error("사용자 이벤트 Kafka 발행 실패: {}건, {}", sendable.size(),
+                    e.getMessage());
+                return -1;
+            } finally {
+                sample.stop(batchTimer);
+            }
+
+            Instant now = Instant.now();
+            for (UserEventOutbox outbox : sendable) {
+                outbox.sent(now);
+                deliveryDelayTimer.record(Duration.between(outbox.getCreatedAt(), now));
+            }
+            publishedCounter.increment(sendable.size());
+            log.debug("사용자 이벤트 발행: {}건", sendable.size());
+            return batch.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.outbox.purge-interval:3600000}")
+    public void purge() {
+        Instant before = Instant.now().minusMillis(retention);
+        Integer deleted = transactionTemplate.execute(
+            status -> userEventOutboxRepository.deleteSentBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("발행 완료 사용자 이벤트 정리: {}건", deleted);
+        }
+    }
+
+    private Counter outboxCounter(String result) {
+        return Counter.builder("user.outbox")
+            .description("사용자 이벤트 발행 대기열 처리 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
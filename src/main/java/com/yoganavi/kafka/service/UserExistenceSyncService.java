@@ -0,0 +1,31 @@
+package com.yoganavi.kafka.service;
+
+import com.yoganavi.kafka.event.UserEvent;
+import com.yoganavi.user.common.util.UserExistenceFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자 생성 이벤트로 가입 정보 중복 확인 필터 갱신
+ * <p>
+ * 필터는 Redis에 하나만 있으므로 별도 컨슈머 그룹으로 한 번씩만 처리한다. 변경/탈퇴 이벤트는 발행하지 않으므로, 닉네임 변경과 탈퇴 시의 익명화 값은
+ * EditServiceImpl/DeleteServiceImpl이 저장 시점에 직접 추가한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserExistenceSyncService {
+
+    private final UserExistenceFilter userExistenceFilter;
+
+    @KafkaListener(
+        topics = "${spring.kafka.topics.user-created}",
+        groupId = "${user.bloom.consumer-group:user-service-bloom}")
+    public void handleUserEvent(UserEvent event) {
+        log.debug("중복 확인 필터 갱신: userId {}, eventType {}", event.getUserId(),
+            event.getEventType());
+        userExistenceFilter.add(event.getEmail(), event.getNickname());
+    }
+}
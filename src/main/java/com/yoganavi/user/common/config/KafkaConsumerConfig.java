@@ -1,38 +1,60 @@
 package com.yoganavi.user.common.config;
 
 import com.yoganavi.kafka.event.UserEvent;
+import com.yoganavi.kafka.serializer.UserEventAvroCodec;
+import com.yoganavi.kafka.serializer.UserEventDeserializer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
+import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.util.backoff.FixedBackOff;
 
 @Configuration
+@RequiredArgsConstructor
 public class KafkaConsumerConfig {
 
+    private final UserEventAvroCodec userEventAvroCodec;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 리스너 컨테이너당 컨슈머 스레드 수. 구독 토픽의 파티션 수에 맞춤 (초과분은 파티션을 받지 못해 유휴)
+    @Value("${kafka.consumer.concurrency:1}")
+    private int concurrency;
+
+    // DLQ 파티션 선택. source: 원본과 같은 파티션, key: 키 해시로 분산 (DLQ에 해당 파티션이 없으면 key와 같음)
+    @Value("${kafka.consumer.dlq-partitioning:source}")
+    private String dlqPartitioning;
+
+    // 배치 리스너가 한 번에 받는 최대 레코드 수
+    @Value("${kafka.consumer.batch-max-poll-records:500}")
+    private int batchMaxPollRecords;
+
     @Bean
     public DefaultKafkaConsumerFactory<String, UserEvent> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
 
         JsonDeserializer<UserEvent> jsonDeserializer = new JsonDeserializer<>(UserEvent.class,
@@ -44,7 +66,8 @@ public class KafkaConsumerConfig {
         return new DefaultKafkaConsumerFactory<>(
             props,
             new StringDeserializer(),
-            jsonDeserializer
+            // Avro/JSON 메시지 모두 처리
+            new UserEventDeserializer(userEventAvroCodec, jsonDeserializer)
         );
     }
 
@@ -55,14 +78,52 @@ public class KafkaConsumerConfig {
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.setBatchListener(false);
+        configure(factory, kafkaTemplate);
+        return factory;
+    }
+
+    /**
+     * 배치 리스너용 팩토리. poll 한 번에 받은 레코드를 목록으로 넘기고 처리가 끝나면 배치 단위로 오프셋을 커밋한다.
+     * 리스너가 BatchListenerFailedException으로 실패 위치를 알리면 그 앞까지 커밋하고 해당 레코드만 DLQ로 보낸다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, UserEvent> batchKafkaListenerContainerFactory(
+        KafkaTemplate<String, Object> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, UserEvent> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(AckMode.BATCH);
+
+        Properties consumerProps = new Properties();
+        consumerProps.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+            String.valueOf(batchMaxPollRecords));
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProps);
+
+        configure(factory, kafkaTemplate);
+        return factory;
+    }
+
+    private void configure(ConcurrentKafkaListenerContainerFactory<String, UserEvent> factory,
+        KafkaTemplate<String, Object> kafkaTemplate) {
+        factory.setConcurrency(concurrency);
+
+        // 직접 정의한 팩토리는 Spring Boot의 가상 스레드 설정이 적용되지 않으므로 여기서 지정
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor(
+                "kafka-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
 
         // DLQ 설정
         DefaultErrorHandler errorHandler = new DefaultErrorHandler(
             new DeadLetterPublishingRecoverer(kafkaTemplate,
                 (record, ex) -> {
-                    // 항상 DLQ로 이동하도록
+                    // 항상 DLQ로 이동하도록. 파티션 -1이면 프로듀서가 키 해시로 선택
                     String dlqTopic = record.topic() + "-dlq";
-                    return new TopicPartition(dlqTopic, 0);
+                    int partition = "key".equals(dlqPartitioning) ? -1 : record.partition();
+                    return new TopicPartition(dlqTopic, partition);
                 }),
             new FixedBackOff(1000L, 2L)
         );
@@ -71,6 +132,5 @@ public class KafkaConsumerConfig {
         errorHandler.addNotRetryableExceptions(RuntimeException.class);
 
         factory.setCommonErrorHandler(errorHandler);
-        return factory;
     }
 }
\ No newline at end of file
@@ -1,5 +1,10 @@
 package com.yoganavi.user.common.config;
 
+import com.yoganavi.kafka.serializer.UserEventAvroCodec;
+import com.yoganavi.kafka.serializer.UserEventSerializer;
+import java.util.HashSet;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -7,7 +12,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 
 import java.util.HashMap;
@@ -15,19 +19,37 @@ import java.util.Map;
 import org.springframework.kafka.transaction.KafkaTransactionManager;
 
 @Configuration
+@RequiredArgsConstructor
 public class KafkaProducerConfig {
+
+    private final UserEventAvroCodec userEventAvroCodec;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.application.name}")
     private String applicationName;
 
+    // 발행 대기열은 배치마다 트랜잭션 하나로 보내고, 커밋할 때 남은 레코드를 바로 보내므로
+    // linger는 커밋 지연 없이 트랜잭션 안의 send를 더 큰 배치로 묶는 데만 쓰인다
+    @Value("${kafka.producer.linger-ms:20}")
+    private int lingerMs;
+
+    @Value("${kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    // none, gzip, snappy, lz4, zstd
+    @Value("${kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    // UserEvent를 Avro로 보낼 토픽 (나머지는 JSON)
+    @Value("${kafka.serialization.avro-topics:}")
+    private List<String> avroTopics;
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
         // 트랜잭션/멱등성 설정
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
@@ -41,8 +63,14 @@ public class KafkaProducerConfig {
         configProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 5000);
         configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 5000);
 
+        // 배치/압축 설정
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+
         DefaultKafkaProducerFactory<String, Object> factory =
-            new DefaultKafkaProducerFactory<>(configProps);
+            new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(),
+                new UserEventSerializer(userEventAvroCodec, new HashSet<>(avroTopics)));
 
         factory.setTransactionIdPrefix(applicationName + "-tx-");
 
@@ -1,10 +1,13 @@
 package com.yoganavi.user.common.config;
 
+import com.yoganavi.user.common.util.AdaptiveBCryptPasswordEncoder;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,7 +18,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
@@ -87,9 +90,25 @@ public class SecurityConfig {
     }
 
 
+    /**
+     * BCrypt cost는 시작 시 해시 시간을 측정해 목표 시간에 맞춰 정한다. 노드마다 CPU가 달라 cost가 엇갈리면 로그인마다 재해시가 반복되므로, 그런
+     * 환경에서는 password.bcrypt.strength로 고정한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+        @Value("${password.bcrypt.strength:0}") int strength,
+        @Value("${password.bcrypt.target-millis:100}") long targetMillis,
+        @Value("${password.bcrypt.min-strength:10}") int minStrength,
+        @Value("${password.bcrypt.max-strength:14}") int maxStrength) {
+        AdaptiveBCryptPasswordEncoder bcrypt = strength > 0
+            ? new AdaptiveBCryptPasswordEncoder(strength)
+            : AdaptiveBCryptPasswordEncoder.calibrate(targetMillis, minStrength, maxStrength);
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt",
+            Map.of("bcrypt", bcrypt));
+        // 접두어({bcrypt}) 없이 저장된 기존 해시 검증 (다음 로그인 때 접두어 포함 해시로 교체됨)
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
     }
 
     @Bean
@@ -0,0 +1,113 @@
+package com.yoganavi.user.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+
+// 메일 발송 대기열 (요청 처리와 SMTP 전송 분리)
+@Entity
+@Getter
+@Setter
+@Table(name = "mail_outbox", indexes = {
+    @Index(name = "idx_mail_outbox_due", columnList = "status, nextAttemptAt")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_mail_outbox_pending", columnNames = {"recipient", "purpose",
+        "pending"})
+})
+public class MailOutbox {
+
+    public static final String PENDING = "PENDING";
+    public static final String SENT = "SENT";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false, length = 50)
+    private String purpose;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, length = 2000)
+    private String body;
+
+    @Column(nullable = false, length = 20)
+    private String status;     // PENDING, SENT, FAILED
+
+    // 대기 중일 때만 TRUE, 그 외 NULL. MySQL은 조건부 unique 인덱스가 없으므로 NULL 중복 허용을 이용해
+    // 수신자/용도당 대기 중 메일을 하나로 제한 (동시 요청이 둘 다 새로 넣지 못하도록)
+    @Column
+    private Boolean pending;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 대기 중 내용이 바뀔 때마다 증가 (전송 중 바뀐 메일을 SENT로 덮어쓰지 않도록)
+    @Column(nullable = false)
+    private int revision;
+
+    // 다음 전송 시각. 전송을 가져간 동안에는 임대 만료 시각
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    // 전송을 가져간 노드의 임대 만료 시각 (전송 결과가 기록되면 해제)
+    @Column
+    private Instant leasedUntil;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column
+    private Instant sentAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = Instant.now();
+    }
+
+    public static MailOutbox pending(String recipient, String purpose, String subject,
+        String body) {
+        MailOutbox mail = new MailOutbox();
+        mail.setRecipient(recipient);
+        mail.setPurpose(purpose);
+        mail.setSubject(subject);
+        mail.setBody(body);
+        mail.setStatus(PENDING);
+        mail.setPending(true);
+        mail.setNextAttemptAt(Instant.now());
+        return mail;
+    }
+
+    // 발송 전 같은 메일 재요청: 최신 내용으로 교체하고 바로 전송 대상으로
+    // 전송 중이면 다시 가져가지 않도록 시각은 두고, 전송 결과 기록 시 revision 불일치로 새 내용을 보냄
+    public void replace(String subject, String body) {
+        this.subject = subject;
+        this.body = body;
+        this.revision++;
+        Instant now = Instant.now();
+        if (!isLeased(now)) {
+            this.nextAttemptAt = now;
+        }
+    }
+
+    public boolean isLeased(Instant now) {
+        return leasedUntil != null && leasedUntil.isAfter(now);
+    }
+}
@@ -1,6 +1,7 @@
 package com.yoganavi.user.common.entity;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.yoganavi.user.common.util.UserIdAllocator;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,6 +14,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -29,11 +31,18 @@ public class Users {
 
     public enum Role {
         TEACHER,
-        STUDENT
+        STUDENT,
+        // 운영자 (대량 가입 등 관리 API). 가입으로는 만들 수 없고 운영자가 DB에서 role을 ADMIN으로 바꿔 부여하며,
+        // 다음 액세스 토큰 발급(로그인 또는 재발급)부터 토큰과 X-Role에 반영된다
+        ADMIN
     }
 
+    // IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼지므로 테이블에서 ID 구간을 미리 할당 (pooled-lo)
+    // 대량 가입의 UserIdAllocator도 같은 테이블에서 구간을 예약한다
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO, generator = "native")
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(name = "user_id", table = "user_id_seq", pkColumnName = "sequence_name",
+        valueColumnName = "next_val", pkColumnValue = UserIdAllocator.USERS, allocationSize = 50)
     @Column(name = "user_id", unique = true)
     private Long userId;
 
@@ -0,0 +1,59 @@
+package com.yoganavi.user.common.repository;
+
+import com.yoganavi.user.common.entity.MailOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 전송을 가져가는 중이면 끝날 때까지 기다려 임대 여부를 정확히 확인
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MailOutbox> findFirstByRecipientAndPurposeAndStatus(String recipient,
+        String purpose, String status);
+
+    /**
+     * 전송할 메일 조회. 다른 노드가 잠근 행은 건너뛴다 (SELECT ... FOR UPDATE SKIP LOCKED)
+     *
+     * @param now      기준 시각
+     * @param pageable 조회 개수
+     * @return 전송 대상 메일
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM MailOutbox m WHERE m.status = 'PENDING' AND m.nextAttemptAt <= :now "
+        + "ORDER BY m.nextAttemptAt")
+    List<MailOutbox> findDueForUpdate(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * 전송 완료 처리. 전송 중 내용이 바뀌었으면(revision 불일치) 그대로 두어 다시 전송되도록 한다.
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = 'SENT', m.pending = null, m.sentAt = :now, "
+        + "m.lastError = null, m.leasedUntil = null "
+        + "WHERE m.id = :id AND m.revision = :revision AND m.status = 'PENDING'")
+    int markSent(@Param("id") Long id, @Param("revision") int revision,
+        @Param("now") Instant now);
+
+    /**
+     * 전송 중 내용이 바뀐 메일의 임대를 풀고 바로 다시 전송 대상으로
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.nextAttemptAt = :now, m.leasedUntil = null "
+        + "WHERE m.id = :id AND m.revision <> :revision AND m.status = 'PENDING'")
+    int releaseChanged(@Param("id") Long id, @Param("revision") int revision,
+        @Param("now") Instant now);
+}
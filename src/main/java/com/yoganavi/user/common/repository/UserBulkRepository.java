@@ -0,0 +1,75 @@
+package com.yoganavi.user.common.repository;
+
+import com.yoganavi.user.common.entity.Users;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 대량 가입용 JDBC 저장소 (영속성 컨텍스트 없이 배치 INSERT)
+ * <p>
+ * MySQL 드라이버는 rewriteBatchedStatements=true일 때 배치를 multi-row INSERT 한 번으로 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBulkRepository {
+
+    private static final String INSERT_USER = "INSERT INTO users "
+        + "(user_id, email, pwd, nickname, role, is_deleted) "
+        + "VALUES (:userId, :email, :pwd, :nickname, :role, false)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * ID가 채워진 사용자 일괄 저장
+     *
+     * @param users userId까지 채워진 사용자 목록
+     */
+    public void insertAll(List<Users> users) {
+        SqlParameterSource[] params = users.stream()
+            .map(user -> new MapSqlParameterSource()
+                .addValue("userId", user.getUserId())
+                .addValue("email", user.getEmail())
+                .addValue("pwd", user.getPwd())
+                .addValue("nickname", user.getNickname())
+                .addValue("role", user.getRole()))
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_USER, params);
+    }
+
+    /**
+     * 이미 사용 중인 이메일 조회 (소문자로 반환)
+     */
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return findExisting("email", emails);
+    }
+
+    /**
+     * 이미 사용 중인 닉네임 조회 (소문자로 반환)
+     */
+    public Set<String> findExistingNicknames(Collection<String> nicknames) {
+        return findExisting("nickname", nicknames);
+    }
+
+    // column은 내부 상수만 전달
+    private Set<String> findExisting(String column, Collection<String> values) {
+        Set<String> existing = new HashSet<>();
+        if (values.isEmpty()) {
+            return existing;
+        }
+        jdbcTemplate.query("SELECT " + column + " FROM users WHERE " + column + " IN (:values)",
+            Map.of("values", values),
+            rs -> {
+                existing.add(rs.getString(1).toLowerCase(Locale.ROOT));
+            });
+        return existing;
+    }
+}
@@ -0,0 +1,17 @@
+package com.yoganavi.user.common.repository;
+
+import java.time.Instant;
+
+/**
+ * 로그인 인증에 필요한 사용자 정보만 담은 조회 전용 projection (엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+public record UserCredential(
+    Long userId,
+    String email,
+    String pwd,
+    String role,
+    Boolean isDeleted,
+    Instant deletedAt
+) {
+
+}
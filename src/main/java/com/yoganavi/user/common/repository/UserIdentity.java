@@ -0,0 +1,12 @@
+package com.yoganavi.user.common.repository;
+
+/**
+ * 중복 확인 필터 초기화용 조회 전용 projection (식별 컬럼만 조회)
+ */
+public record UserIdentity(
+    Long userId,
+    String email,
+    String nickname
+) {
+
+}
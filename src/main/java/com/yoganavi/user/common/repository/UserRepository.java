@@ -2,14 +2,82 @@ package com.yoganavi.user.common.repository;
 
 import com.yoganavi.user.common.entity.Users;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface UserRepository extends JpaRepository<Users, Long> {
 
     Optional<Users> findByEmail(String email);
 
+    boolean existsByEmail(String email);
+
+    boolean existsByNickname(String nickname);
+
     List<Users> findByDeletedAtBeforeAndIsDeletedFalse(Instant dateTime);
 
+    /**
+     * 로그인 인증 정보 조회 (필요한 컬럼만 조회, 엔티티 관리 없음)
+     *
+     * @param email 사용자 이메일
+     * @return 인증 정보
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.yoganavi.user.common.repository.UserCredential("
+        + "u.userId, u.email, u.pwd, u.role, u.isDeleted, u.deletedAt) "
+        + "FROM Users u WHERE u.email = :email")
+    Optional<UserCredential> findCredentialByEmail(@Param("email") String email);
+
+    /**
+     * 사용자 ID 순으로 이메일/닉네임 조회 (키셋 페이지네이션)
+     *
+     * @param afterId  이전 페이지의 마지막 사용자 ID (처음이면 0)
+     * @param pageable 페이지 크기
+     * @return afterId 다음부터의 식별 정보
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.yoganavi.user.common.repository.UserIdentity("
+        + "u.userId, u.email, u.nickname) "
+        + "FROM Users u WHERE u.userId > :afterId ORDER BY u.userId")
+    List<UserIdentity> findIdentitiesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 주어진 ID 중 존재하는 사용자 ID 조회 (엔티티 로딩 없음)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 존재하는 사용자 ID
+     */
+    @Query("SELECT u.userId FROM Users u WHERE u.userId IN :userIds")
+    List<Long> findExistingIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 탈퇴 진행 중인 계정 복구
+     *
+     * @param userId 사용자 ID
+     * @return 변경된 행 수 (탈퇴 진행 중이 아니면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Users u SET u.deletedAt = null, u.isDeleted = false "
+        + "WHERE u.userId = :userId AND u.deletedAt IS NOT NULL AND u.isDeleted = false")
+    int restoreDeletedUser(@Param("userId") Long userId);
+
+    /**
+     * 비밀번호 해시 교체
+     *
+     * @param userId 사용자 ID
+     * @param pwd    새 비밀번호 해시
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Users u SET u.pwd = :pwd WHERE u.userId = :userId")
+    int updatePassword(@Param("userId") Long userId, @Param("pwd") String pwd);
+
 }
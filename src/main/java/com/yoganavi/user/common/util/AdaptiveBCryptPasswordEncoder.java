@@ -0,0 +1,86 @@
+package com.yoganavi.user.common.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 실행 중인 CPU에 맞춰 BCrypt cost를 정하는 PasswordEncoder
+ * <p>
+ * 시작 시 최소 cost로 해시 시간을 측정하고, cost가 1 오를 때마다 시간이 두 배가 되는 성질로 목표 시간 안에 드는 가장 큰 cost를 고른다. 저장된 해시의
+ * cost가 목표와 다르면(낮든 높든) {@link #upgradeEncoding(String)}이 true를 반환해 로그인 시 다시 해시하도록 한다.
+ */
+@Slf4j
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final int strength;
+    private final BCryptPasswordEncoder delegate;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * 해시 시간을 측정해 목표 시간에 맞는 cost로 생성
+     *
+     * @param targetMillis 해시 1회 목표 시간
+     * @param minStrength  최소 cost (측정 기준)
+     * @param maxStrength  최대 cost
+     */
+    public static AdaptiveBCryptPasswordEncoder calibrate(long targetMillis, int minStrength,
+        int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration"); // JIT 워밍업
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        long targetNanos = targetMillis * 1_000_000L;
+        int strength = minStrength;
+        long estimated = best;
+        while (strength < maxStrength && estimated * 2 <= targetNanos) {
+            estimated *= 2;
+            strength++;
+        }
+
+        log.info("BCrypt cost 보정: cost {} 측정 {}ms -> cost {} (예상 {}ms, 목표 {}ms)", minStrength,
+            best / 1_000_000, strength, estimated / 1_000_000, targetMillis);
+        return new AdaptiveBCryptPasswordEncoder(strength);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
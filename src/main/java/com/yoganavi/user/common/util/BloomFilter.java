@@ -0,0 +1,128 @@
+package com.yoganavi.user.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 스레드 안전 Bloom filter
+ * <p>
+ * {@code mightContain}이 false면 절대 추가된 적 없는 키이고, true면 오탐 확률(fpp) 내에서 추가되었을 수 있는 키이다.
+ */
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    /**
+     * 예상 삽입 수와 허용 오탐률로 비트 수와 해시 함수 수를 정해 생성
+     *
+     * @param expectedInsertions 예상 삽입 수
+     * @param fpp                허용 오탐률 (0 ~ 1)
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        long m = optimalBitSize(n, fpp);
+        int k = optimalHashCount(n, m);
+        return new BloomFilter(m, k);
+    }
+
+    public static long optimalBitSize(long expectedInsertions, double fpp) {
+        return Math.max(64,
+            (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+    }
+
+    public static int optimalHashCount(long expectedInsertions, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String key) {
+        long h1 = hash(key);
+        long h2 = secondaryHash(h1);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(h1, h2, i));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = secondaryHash(h1);
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(index(h1, h2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 키의 비트 위치 목록 (Redis 비트맵 등 외부 저장소에서 같은 위치를 쓰기 위함)
+     *
+     * @param key 키
+     * @return hashCount 개의 비트 위치
+     */
+    public long[] indexes(String key) {
+        long h1 = hash(key);
+        long h2 = secondaryHash(h1);
+        long[] indexes = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            indexes[i] = index(h1, h2, i);
+        }
+        return indexes;
+    }
+
+    private long index(long h1, long h2, int i) {
+        return Math.floorMod(h1 + i * h2, bitSize);
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    // FNV-1a 64비트
+    private static long hash(String key) {
+        long h = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    // splitmix64 finalizer, 홀수로 만들어 모든 비트 위치를 순회하도록
+    private static long secondaryHash(long h) {
+        long z = h + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return (z ^ (z >>> 31)) | 1L;
+    }
+}
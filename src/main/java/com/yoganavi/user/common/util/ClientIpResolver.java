@@ -0,0 +1,74 @@
+package com.yoganavi.user.common.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청한 클라이언트 IP 확인
+ * <p>
+ * 게이트웨이 뒤에서는 연결 주소가 모두 게이트웨이 IP이므로, 연결 주소가 신뢰하는 프록시일 때만 X-Forwarded-For를 오른쪽(가장 가까운 hop)부터 읽어 신뢰하지
+ * 않는 첫 주소를 클라이언트로 본다. 클라이언트가 직접 넣은 왼쪽 값은 신뢰하는 프록시를 거쳐 붙은 값이 아니므로 사용하지 않는다.
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    // IP 형식이 아닌 값은 호스트 이름 조회를 하지 않도록 프록시로 보지 않음
+    private static final Pattern IP_LITERAL =
+        Pattern.compile("[0-9.]+|[0-9a-fA-F:.]*:[0-9a-fA-F:.]*");
+
+    // 게이트웨이 등 신뢰하는 프록시 (IP 또는 CIDR)
+    @Value("${gateway.trusted-proxies:127.0.0.0/8,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16,::1}")
+    private List<String> trustedProxies;
+
+    private List<IpAddressMatcher> matchers;
+
+    @PostConstruct
+    public void init() {
+        this.matchers = trustedProxies.stream()
+            .map(String::trim)
+            .filter(proxy -> !proxy.isEmpty())
+            .map(IpAddressMatcher::new)
+            .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String client = request.getRemoteAddr();
+        if (!isTrusted(client)) {
+            return client;
+        }
+        String forwarded = request.getHeader(FORWARDED_FOR);
+        if (forwarded == null || forwarded.isBlank()) {
+            return client;
+        }
+
+        String[] hops = forwarded.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        if (address == null || !IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        try {
+            return matchers.stream().anyMatch(matcher -> matcher.matches(address));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
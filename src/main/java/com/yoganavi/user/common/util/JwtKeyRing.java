@@ -0,0 +1,236 @@
+package com.yoganavi.user.common.util;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.crypto.SecretKey;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 서명 키 링
+ * <p>
+ * 토큰 헤더의 kid로 검증 키를 찾고, 새 토큰은 활성 키로 서명한다. 설정 예:
+ * <pre>
+ * jwt:
+ *   secret: ...              # kid가 없는 기존 토큰 검증용 (kid: default)
+ *   key-ring:
+ *     active-kid: k2
+ *     keys:
+ *       k1:
+ *         secret: ...
+ *         retire-at: 2026-01-01T00:00:00Z
+ *       k2:
+ *         secret: ...
+ * </pre>
+ * 무중단 교체 순서: 새 키 추가 후 전체 노드 반영 → active-kid 변경 → 리프레시 토큰 만료 시간이 지난 시점으로 이전 키의 retire-at 지정.
+ * <p>
+ * 키는 {@code jwt.key-ring.file}로 지정한 외부 파일(properties 형식, 예: {@code jwt.key-ring.keys.k2.secret=...})에 둘 수 있다.
+ * 파일 값이 애플리케이션 설정보다 우선하며, reload-interval마다 파일을 확인해 내용이 바뀌었으면 재시작 없이 다시 로드한다.
+ * {@link EnvironmentChangeEvent}(설정 서버 refresh)로 바뀐 값도 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    public static final String DEFAULT_KID = "default";
+
+    private final Environment environment;
+
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+
+    // 마지막으로 로드한 키 파일 내용 (바뀌었을 때만 다시 로드)
+    private volatile String loadedFileContent;
+
+    // 교체 시 참조 하나만 바꿔서 읽는 쪽은 잠금 없이 조회
+    private volatile Ring ring;
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        boolean changed = event.getKeys().stream().anyMatch(key -> key.startsWith("jwt."));
+        if (!changed) {
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception e) {
+            // 잘못된 설정이면 기존 키 링을 유지
+            log.error("JWT 서명 키 링 재로드 실패, 기존 키 링 유지: {}", e.getMessage());
+        }
+    }
+
+    // 외부 키 파일이 바뀌었으면 다시 로드
+    @Scheduled(fixedDelayString = "${jwt.key-ring.reload-interval:30000}")
+    public void checkKeyFile() {
+        Path file = keyFile();
+        if (file == null) {
+            return;
+        }
+        try {
+            if (!Files.readString(file).equals(loadedFileContent)) {
+                reload();
+            }
+        } catch (Exception e) {
+            // 파일을 읽을 수 없거나 잘못된 설정이면 기존 키 링을 유지
+            log.error("JWT 서명 키 파일 재로드 실패, 기존 키 링 유지: {}", e.getMessage());
+        }
+    }
+
+    public void addReloadListener(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    public synchronized void reload() {
+        Path file = keyFile();
+        String fileContent = file != null ? readKeyFile(file) : null;
+        Binder binder = binder(fileContent);
+        Map<String, KeyProperties> configured = binder
+            .bind("jwt.key-ring.keys", Bindable.mapOf(String.class, KeyProperties.class))
+            .orElseGet(Map::of);
+        String activeKid = binder.bind("jwt.key-ring.active-kid", String.class)
+            .orElse(DEFAULT_KID);
+
+        Map<String, VerificationKey> keys = new HashMap<>();
+        String legacySecret = binder.bind("jwt.secret", String.class).orElse(null);
+        if (legacySecret != null && !configured.containsKey(DEFAULT_KID)) {
+            keys.put(DEFAULT_KID, new VerificationKey(toKey(legacySecret), null));
+        }
+        configured.forEach((kid, properties) -> keys.put(kid, new VerificationKey(
+            toKey(properties.getSecret()),
+            properties.getRetireAt() != null ? Instant.parse(properties.getRetireAt()) : null)));
+
+        VerificationKey active = keys.get(activeKid);
+        if (active == null || active.isRetired()) {
+            throw new IllegalStateException("활성 서명 키를 찾을 수 없습니다: " + activeKid);
+        }
+
+        this.ring = new Ring(Map.copyOf(keys), new SigningKey(activeKid, active.getKey()));
+        this.loadedFileContent = fileContent;
+        log.info("JWT 서명 키 링 로드: 활성 kid {}, 검증 키 {}", activeKid, keys.keySet());
+
+        reloadListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * 새 토큰 서명용 활성 키 (kid와 키를 함께 읽어 재로드 중에도 짝이 맞도록)
+     */
+    public SigningKey getSigningKey() {
+        return ring.signingKey();
+    }
+
+    /**
+     * 검증 키의 사용 종료 시각
+     *
+     * @param kid 토큰 헤더의 kid (null이면 기존 토큰용 키)
+     * @return 사용 종료 시각, 지정되지 않았거나 없는 키면 null
+     */
+    public Instant getRetireAt(String kid) {
+        VerificationKey key = ring.keys().get(kid != null ? kid : DEFAULT_KID);
+        return key != null ? key.getRetireAt() : null;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId() != null ? header.getKeyId() : DEFAULT_KID;
+        VerificationKey key = ring.keys().get(kid);
+        if (key == null || key.isRetired()) {
+            throw new JwtException("사용할 수 없는 서명 키: " + kid);
+        }
+        return key.getKey();
+    }
+
+    private Path keyFile() {
+        String file = environment.getProperty("jwt.key-ring.file");
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    private static String readKeyFile(Path file) {
+        try {
+            return Files.readString(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JWT 서명 키 파일을 읽을 수 없습니다: " + file, e);
+        }
+    }
+
+    // 키 파일 값을 애플리케이션 설정보다 먼저 조회
+    private Binder binder(String fileContent) {
+        List<ConfigurationPropertySource> sources = new ArrayList<>();
+        if (fileContent != null) {
+            Properties properties = new Properties();
+            try {
+                properties.load(new StringReader(fileContent));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            sources.add(new MapConfigurationPropertySource(properties));
+        }
+        ConfigurationPropertySources.get(environment).forEach(sources::add);
+        return new Binder(sources);
+    }
+
+    private static SecretKey toKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public record SigningKey(String kid, SecretKey key) {
+
+    }
+
+    private record Ring(Map<String, VerificationKey> keys, SigningKey signingKey) {
+
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class VerificationKey {
+
+        private final SecretKey key;
+        private final Instant retireAt;
+
+        boolean isRetired() {
+            return retireAt != null && !Instant.now().isBefore(retireAt);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class KeyProperties {
+
+        private String secret;
+        private String retireAt;
+    }
+}
@@ -1,27 +1,38 @@
 package com.yoganavi.user.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.yoganavi.user.common.entity.Users;
 import com.yoganavi.user.common.repository.UserRepository;
+import com.yoganavi.user.common.util.JwtKeyRing.SigningKey;
+import com.yoganavi.user.common.util.RefreshTokenStore.RotationResult;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import javax.crypto.SecretKey;
+import java.util.stream.IntStream;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.dao.DataAccessException;
-import org.springframework.data.redis.core.RedisOperations;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 
 
@@ -30,6 +41,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class JwtUtil {
 
+    private static final String REFRESH_TOKEN_SUBJECT = "Refresh Token";
+
     public enum TokenStatus {
         VALID,
         INVALID,
@@ -37,8 +50,35 @@ public class JwtUtil {
         EXPIRED
     }
 
+    @Getter
+    @AllArgsConstructor
+    public static class TokenCheck {
+
+        private final TokenStatus status;
+        private final Claims claims;
+    }
+
+    // 리프레시 토큰과 토큰 패밀리(세션) ID
+    public record RefreshToken(String token, String familyId) {
+
+    }
+
     private final UserRepository userRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenStore tokenStore;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenNearCache tokenNearCache;
+    private final TokenRevocationFilter tokenRevocationFilter;
+    private final JwtKeyRing jwtKeyRing;
+    private final MeterRegistry meterRegistry;
+
+    // 토큰 다이제스트 계산용 (MessageDigest는 스레드 안전하지 않음)
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
 
     @Value("${jwt.access-token-expiration}")
     private long accessTokenExpiration;
@@ -46,45 +86,177 @@ public class JwtUtil {
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    @Value("${jwt.claims-cache.ttl:60000}")
+    private long claimsCacheTtl;
 
-    private SecretKey key;
+    private JwtParser jwtParser;
+
+    // 검증 완료된 클레임 캐시 (토큰 다이제스트 -> 클레임)
+    private Cache<String, VerifiedClaims> claimsCache;
 
     @PostConstruct
     public void init() {
-        this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        // 파서는 불변이므로 한 번만 생성해서 재사용 (검증 키는 kid로 키 링에서 조회)
+        this.jwtParser = Jwts.parser()
+            .keyLocator(jwtKeyRing)
+            .build();
+        this.claimsCache = Caffeine.newBuilder()
+            .maximumSize(claimsCacheMaxSize)
+            .expireAfter(new ClaimsExpiry(TimeUnit.MILLISECONDS.toNanos(claimsCacheTtl)))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwt.claims");
+        // 키가 폐기되면 그 키로 검증된 클레임도 다시 검증하도록
+        jwtKeyRing.addReloadListener(claimsCache::invalidateAll);
         log.info("JWT 액세스 토큰 만료 시간: {}ms, 리프레시 토큰 만료 시간: {}ms",
             this.accessTokenExpiration, this.refreshTokenExpiration);
     }
 
-    // refresh token 생성
-    public String generateRefreshToken(String email) {
+    // refresh token 생성 (로그인마다 새 토큰 패밀리 시작)
+    public RefreshToken generateRefreshToken(String email) {
+        String familyId = UUID.randomUUID().toString();
+        String jti = UUID.randomUUID().toString();
+        refreshTokenStore.start(email, familyId, jti, refreshTokenExpiration);
+        return new RefreshToken(buildRefreshToken(email, familyId, jti), familyId);
+    }
+
+    /**
+     * 리프레시 토큰 교체. 제출된 토큰이 패밀리의 현재 토큰이면 같은 패밀리의 새 토큰을 발급한다.
+     *
+     * @param refreshClaims 서명 검증이 끝난 리프레시 토큰 클레임
+     * @return 새 리프레시 토큰
+     */
+    public RefreshToken rotateRefreshToken(Claims refreshClaims) {
+        if (!REFRESH_TOKEN_SUBJECT.equals(refreshClaims.getSubject())) {
+            throw new JwtException("리프레시 토큰이 아닙니다.");
+        }
+
+        String email = refreshClaims.get("email", String.class);
+        String familyId = refreshClaims.get("fid", String.class);
+        String jti = refreshClaims.getId();
+
+        // 패밀리 도입 이전에 발급된 토큰은 진행 중인 패밀리가 없을 때만 받아들여 새 패밀리 시작
+        if (familyId == null || jti == null) {
+            if (refreshTokenStore.exists(email)) {
+                throw new JwtException("더 이상 사용할 수 없는 리프레시 토큰입니다.");
+            }
+            return generateRefreshToken(email);
+        }
+
+        String newJti = UUID.randomUUID().toString();
+        RotationResult result = refreshTokenStore.rotate(email, familyId, jti, newJti,
+            refreshTokenExpiration);
+        switch (result) {
+            case ROTATED:
+                return new RefreshToken(buildRefreshToken(email, familyId, newJti), familyId);
+            case REUSED:
+                // 탈취 가능성: 패밀리는 스크립트에서 삭제됨, 사용자의 모든 세션도 무효화
+                log.warn("리프레시 토큰 재사용 감지, 전체 세션 폐기: {}", email);
+                invalidateToken(email);
+                throw new JwtException("재사용된 리프레시 토큰입니다.");
+            default:
+                throw new JwtException("유효하지 않은 리프레시 토큰입니다.");
+        }
+    }
+
+    // 토큰 생성만 수행 (저장 없음)
+    String buildRefreshToken(String email, String familyId, String jti) {
+        SigningKey signingKey = jwtKeyRing.getSigningKey();
         return Jwts.builder()
+            .header().keyId(signingKey.kid()).and()
             .issuer("Yoga Navi")
-            .subject("Refresh Token")
+            .subject(REFRESH_TOKEN_SUBJECT)
+            .id(jti)
+            .claim("fid", familyId)
             .claim("email", email)
             .issuedAt(new Date())
             .expiration(
                 new Date(System.currentTimeMillis() + refreshTokenExpiration))
-            .signWith(key)
+            .signWith(signingKey.key())
             .compact();
     }
 
     // 토큰 검증
     public Claims validateToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return parseToken(token);
+        }
+        return validateToken(token, digest(token));
+    }
+
+    // 같은 토큰은 캐시 유효 기간 동안 한 번만 서명 검증
+    private Claims validateToken(String token, String cacheKey) {
+        VerifiedClaims cached = claimsCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached.claims();
+        }
+
+        VerifiedClaims verified = verify(token);
+        claimsCache.put(cacheKey, verified);
+        return verified.claims();
+    }
+
+    // 캐시 없이 파싱과 서명 검증만 수행
+    Claims parseToken(String token) {
+        return verify(token).claims();
+    }
+
+    private VerifiedClaims verify(String token) {
         try {
-            return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+            Jws<Claims> jws = jwtParser.parseSignedClaims(token);
+            return new VerifiedClaims(jws.getPayload(),
+                jwtKeyRing.getRetireAt(jws.getHeader().getKeyId()));
         } catch (JwtException e) {
             log.error("토큰 검증 실패: {}", e.getMessage());
             throw e;
         }
     }
 
+    // jti가 없는 이전 발급 토큰은 저장 토큰 비교로만 확인
+    private boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        return jti != null && tokenRevocationFilter.isRevoked(jti);
+    }
+
+    // 토큰의 세대가 사용자의 현재 세대와 같으면 유효 (전체 로그아웃 시 세대 증가)
+    private TokenStatus generationStatus(String token, Claims claims) {
+        String email = claims.get("email", String.class);
+        Long generation = claims.get("gen", Long.class);
+        if (generation == null) {
+            return legacyStatus(token, email);
+        }
+        return generation == currentGeneration(email) ? TokenStatus.VALID : TokenStatus.INVALID;
+    }
+
+    // gen 클레임이 없는 이전 발급 토큰은 email 키에 저장된 토큰과 비교
+    private TokenStatus legacyStatus(String token, String email) {
+        String storedToken = tokenStore.findLegacyToken(email);
+        if (storedToken == null) {
+            return TokenStatus.NOT_FOUND;
+        }
+        return token.equals(storedToken) ? TokenStatus.VALID : TokenStatus.INVALID;
+    }
+
+    // 로컬 캐시에 없을 때만 Redis 조회
+    private long currentGeneration(String email) {
+        Long cached = tokenNearCache.get(email);
+        if (cached != null) {
+            return cached;
+        }
+        long epoch = tokenNearCache.epoch();
+        long generation = tokenStore.findGeneration(email);
+        tokenNearCache.putIfUnchanged(email, generation, epoch);
+        return generation;
+    }
+
+    private String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
     public String extractToken(String bearerToken) {
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
@@ -103,8 +275,15 @@ public class JwtUtil {
     public long getUserIdFromToken(String bearerToken) {
         String token = extractToken(bearerToken);
         Claims claims = validateToken(token);
-        String email = claims.get("email", String.class);
 
+        // 서명된 uid 클레임이 있으면 DB 조회 없이 반환
+        Long userId = claims.get("uid", Long.class);
+        if (userId != null) {
+            return userId;
+        }
+
+        // uid 클레임이 없는 이전 발급 토큰 호환
+        String email = claims.get("email", String.class);
         Optional<Users> userOptional = userRepository.findByEmail(email);
 
         if (userOptional.isPresent()) {
@@ -122,69 +301,57 @@ public class JwtUtil {
 
 
     //=============아래로 동시성 고려
-    public String generateAccessToken(String email, String role) {
-        String token = Jwts.builder()
+
+    /**
+     * 액세스 토큰 발급. 토큰마다 저장하지 않고 사용자의 현재 세대를 클레임에 넣으므로 기기별 세션이 서로의 토큰을 덮어쓰지 않는다.
+     *
+     * @param userId   사용자 ID
+     * @param email    사용자 이메일
+     * @param role     사용자 역할
+     * @param familyId 같은 세션의 리프레시 토큰 패밀리 ID
+     * @return 액세스 토큰
+     */
+    public String generateAccessToken(Long userId, String email, String role, String familyId) {
+        return buildAccessToken(userId, email, role, currentGeneration(email), familyId);
+    }
+
+    // 토큰 생성만 수행 (저장 없음)
+    String buildAccessToken(Long userId, String email, String role, long generation,
+        String familyId) {
+        SigningKey signingKey = jwtKeyRing.getSigningKey();
+        return Jwts.builder()
+            .header().keyId(signingKey.kid()).and()
             .issuer("Yoga Navi")
             .subject("JWT Token")
+            .id(UUID.randomUUID().toString())
+            .claim("uid", userId)
             .claim("email", email)
             .claim("role", role)
+            .claim("gen", generation)
+            .claim("fid", familyId)
             .issuedAt(new Date())
             .expiration(
                 new Date(System.currentTimeMillis() + accessTokenExpiration))
-            .signWith(key)
+            .signWith(signingKey.key())
             .compact();
-
-        // Redis에 토큰 저장 (동시성 고려)
-        redisTemplate.execute(new SessionCallback<Object>() {
-            @Override
-            public Object execute(RedisOperations operations) throws DataAccessException {
-                operations.multi();
-                operations.opsForValue()
-                    .set(email, token, accessTokenExpiration,
-                        TimeUnit.MILLISECONDS);
-                return operations.exec();
-            }
-        });
-
-        return token;
     }
 
+    // 사용자의 모든 세션 무효화: 세대를 올려 발급된 액세스 토큰을 한 번에 무효화하고 리프레시 토큰 패밀리도 모두 폐기
     public void invalidateToken(String email) {
-        // Redis에서 토큰 삭제 (동시성 고려)
-        redisTemplate.execute(new SessionCallback<Object>() {
-            @Override
-            public Object execute(RedisOperations operations) throws DataAccessException {
-                operations.multi();
-                operations.delete(email);
-                return operations.exec();
-            }
-        });
+        tokenStore.incrementGeneration(email);
+        tokenStore.deleteLegacyToken(email);
+        refreshTokenStore.revokeAll(email);
+        tokenNearCache.invalidate(email);
     }
 
 
     public TokenStatus isTokenValid(String token) {
         try {
-
             Claims claims = validateToken(token);
-            String email = claims.get("email", String.class);
-
-            return redisTemplate.execute(new SessionCallback<TokenStatus>() {
-                @Override
-                public TokenStatus execute(RedisOperations operations) throws DataAccessException {
-                    operations.multi();
-                    String storedToken = (String) operations.opsForValue().get(email);
-                    List<Object> results = operations.exec();
-                    if (results != null && !results.isEmpty()) {
-                        String retrievedToken = (String) results.get(0);
-                        if (retrievedToken == null) {
-                            return TokenStatus.NOT_FOUND;
-                        }
-                        return token.equals(retrievedToken) ? TokenStatus.VALID
-                            : TokenStatus.INVALID;
-                    }
-                    return TokenStatus.NOT_FOUND;
-                }
-            });
+            if (isRevoked(claims)) {
+                return TokenStatus.INVALID;
+            }
+            return generationStatus(token, claims);
         } catch (ExpiredJwtException e) {
             return TokenStatus.EXPIRED;
         } catch (Exception e) {
@@ -192,27 +359,101 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * 여러 토큰의 상태를 한 번에 확인
+     * <p>
+     * 서명 검증은 병렬로 수행하고, 로컬 캐시에 없는 사용자의 세대는 MGET 한 번으로 조회한다.
+     *
+     * @param tokens 확인할 토큰 목록 (Bearer 접두어 없이)
+     * @return 입력 순서와 같은 순서의 확인 결과
+     */
+    public List<TokenCheck> checkTokens(List<String> tokens) {
+        int size = tokens.size();
+        TokenStatus[] statuses = new TokenStatus[size];
+        Claims[] claims = new Claims[size];
+
+        // 서명 검증 (CPU 작업)
+        IntStream.range(0, size).parallel().forEach(i -> {
+            String token = tokens.get(i);
+            try {
+                claims[i] = validateToken(token);
+                if (isRevoked(claims[i])) {
+                    statuses[i] = TokenStatus.INVALID;
+                }
+            } catch (ExpiredJwtException e) {
+                statuses[i] = TokenStatus.EXPIRED;
+            } catch (Exception e) {
+                statuses[i] = TokenStatus.INVALID;
+            }
+        });
+
+        // 로컬 캐시로 판정하고, 남은 사용자만 모아서 Redis 조회
+        List<Integer> pending = new ArrayList<>();
+        List<String> pendingEmails = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (statuses[i] != null) {
+                continue;
+            }
+            String email = claims[i].get("email", String.class);
+            Long generation = claims[i].get("gen", Long.class);
+            if (generation == null) {
+                statuses[i] = legacyStatus(tokens.get(i), email);
+                continue;
+            }
+            Long cached = tokenNearCache.get(email);
+            if (cached != null) {
+                statuses[i] = generation.equals(cached) ? TokenStatus.VALID : TokenStatus.INVALID;
+            } else {
+                pending.add(i);
+                pendingEmails.add(email);
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            long epoch = tokenNearCache.epoch();
+            List<Long> generations = tokenStore.findGenerations(pendingEmails);
+            for (int j = 0; j < pending.size(); j++) {
+                int i = pending.get(j);
+                long generation = generations.get(j);
+                tokenNearCache.putIfUnchanged(pendingEmails.get(j), generation, epoch);
+                statuses[i] = generation == claims[i].get("gen", Long.class) ? TokenStatus.VALID
+                    : TokenStatus.INVALID;
+            }
+        }
+
+        List<TokenCheck> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(new TokenCheck(statuses[i], claims[i]));
+        }
+        return results;
+    }
+
     public boolean logout(String token) {
         try {
-            String email = getEmailFromToken(token);
+            String rawToken = extractToken(token);
+            Claims claims = validateToken(rawToken);
+            String email = claims.get("email", String.class);
             log.info("Logging out user: {}", email);
 
-            Long result = redisTemplate.execute(new SessionCallback<Long>() {
-                @Override
-                public Long execute(RedisOperations operations) throws DataAccessException {
-                    operations.multi();
-                    operations.delete(email);
-                    List<Object> results = operations.exec();
-                    return (Long) results.get(0);
-                }
-            });
+            // 토큰 자체를 폐기 목록에 등록 (모든 노드에서 즉시 거부)
+            if (claims.getId() != null) {
+                tokenRevocationFilter.revoke(claims.getId(), claims.getExpiration().getTime());
+            }
 
-            if (result != null && result > 0) {
-                log.info("사용자 {}가 로그아웃 됨" + email);
+            // 이 세션의 리프레시 토큰 패밀리만 폐기 (다른 기기의 세션은 유지)
+            String familyId = claims.get("fid", String.class);
+            if (familyId != null) {
+                refreshTokenStore.revoke(email, familyId);
+                log.info("사용자 {}가 로그아웃 됨", email);
+                return true;
+            }
+
+            // 세대 도입 이전 토큰: 현재 저장된 토큰과 일치할 때만 삭제
+            if (tokenStore.deleteLegacyTokenIfMatches(email, rawToken)) {
+                log.info("사용자 {}가 로그아웃 됨", email);
                 return true;
             } else {
-                log.warn(
-                    "사용자{} 로그아웃 실패. redis에 토큰이 존재하지 않습니다." + email);
+                log.warn("사용자 {} 로그아웃 실패. redis에 토큰이 존재하지 않습니다.", email);
                 return false;
             }
         } catch (Exception e) {
@@ -220,4 +461,62 @@ public class JwtUtil {
             return false;
         }
     }
+
+    // 모든 기기에서 로그아웃
+    public boolean logoutAll(String token) {
+        try {
+            String email = getEmailFromToken(token);
+            invalidateToken(email);
+            log.info("사용자 {}의 모든 세션이 로그아웃 됨", email);
+            return true;
+        } catch (Exception e) {
+            log.error("Error during logout all: " + e);
+            return false;
+        }
+    }
+
+    // 검증된 클레임과 서명 키의 사용 종료 시각 (종료 후에는 캐시에서도 거부되도록)
+    private record VerifiedClaims(Claims claims, Instant keyRetireAt) {
+
+    }
+
+    /**
+     * 캐시 항목 만료 정책: 설정된 캐시 기간, 토큰의 exp, 서명 키의 retire-at 중 먼저 도래하는 시점에 만료
+     */
+    private static class ClaimsExpiry implements Expiry<String, VerifiedClaims> {
+
+        private final long maxTtlNanos;
+
+        ClaimsExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedClaims verified, long currentTime) {
+            long now = System.currentTimeMillis();
+            long ttlNanos = maxTtlNanos;
+            Date expiration = verified.claims().getExpiration();
+            if (expiration != null) {
+                ttlNanos = Math.min(ttlNanos,
+                    TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - now));
+            }
+            if (verified.keyRetireAt() != null) {
+                ttlNanos = Math.min(ttlNanos,
+                    TimeUnit.MILLISECONDS.toNanos(verified.keyRetireAt().toEpochMilli() - now));
+            }
+            return Math.max(0, ttlNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedClaims verified, long currentTime,
+            long currentDuration) {
+            return expireAfterCreate(key, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedClaims verified, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
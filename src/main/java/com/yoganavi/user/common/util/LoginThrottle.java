@@ -0,0 +1,206 @@
+package com.yoganavi.user.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도 제한 (이메일별, IP별 슬라이딩 윈도우)
+ * <p>
+ * 노드 로컬 토큰 버킷으로 IP별 폭주를 Redis 조회 없이 먼저 걸러내고, 통과한 요청은 Redis sorted set 슬라이딩 윈도우로 전체 노드 기준 시도 횟수를
+ * 확인한다. 한도를 넘으면 잠금을 걸고, 잠금이 반복될수록 잠금 시간을 두 배씩 늘린다(최대 lockout-max). 로그인에 성공하면 해당 이메일의 시도 기록과 잠금
+ * 단계를 초기화한다.
+ * <p>
+ * Redis 장애 시에는 로그인 자체를 막지 않도록 로컬 버킷만으로 판정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginThrottle {
+
+    private static final String KEY_PREFIX = "login:throttle:";
+
+    // 잠금 확인 → 윈도우 정리 → 한도 확인(초과 시 잠금 단계 증가) → 두 윈도우에 시도 기록
+    // 반환: 0 허용, 양수 재시도까지 남은 시간(ms)
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>(
+        "local now = tonumber(ARGV[1]) "
+            + "local window = tonumber(ARGV[2]) "
+            + "local function check(windowKey, lockKey, levelKey, limit) "
+            + "  local ttl = redis.call('PTTL', lockKey) "
+            + "  if ttl > 0 then return ttl end "
+            + "  redis.call('ZREMRANGEBYSCORE', windowKey, '-inf', now - window) "
+            + "  if redis.call('ZCARD', windowKey) < limit then return 0 end "
+            + "  local level = redis.call('INCR', levelKey) "
+            + "  redis.call('PEXPIRE', levelKey, ARGV[8]) "
+            + "  local duration = math.floor(math.min(tonumber(ARGV[6]) * 2 ^ (level - 1), "
+            + "    tonumber(ARGV[7]))) "
+            + "  redis.call('SET', lockKey, level, 'PX', duration) "
+            + "  return duration "
+            + "end "
+            + "local wait = check(KEYS[1], KEYS[2], KEYS[3], tonumber(ARGV[3])) "
+            + "if wait > 0 then return wait end "
+            + "wait = check(KEYS[4], KEYS[5], KEYS[6], tonumber(ARGV[4])) "
+            + "if wait > 0 then return wait end "
+            + "redis.call('ZADD', KEYS[1], now, ARGV[5]) "
+            + "redis.call('PEXPIRE', KEYS[1], window) "
+            + "redis.call('ZADD', KEYS[4], now, ARGV[5]) "
+            + "redis.call('PEXPIRE', KEYS[4], window) "
+            + "return 0",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${login.throttle.window:60000}")
+    private long window;
+
+    @Value("${login.throttle.email-limit:10}")
+    private int emailLimit;
+
+    @Value("${login.throttle.ip-limit:50}")
+    private int ipLimit;
+
+    // 첫 잠금 시간, 이후 잠금마다 두 배
+    @Value("${login.throttle.lockout-base:60000}")
+    private long lockoutBase;
+
+    @Value("${login.throttle.lockout-max:3600000}")
+    private long lockoutMax;
+
+    // 잠금 단계 유지 시간 (이 시간 동안 잠금이 없으면 첫 단계부터 다시 시작)
+    @Value("${login.throttle.lockout-reset:86400000}")
+    private long lockoutReset;
+
+    private Cache<String, TokenBucket> localBuckets;
+
+    private Counter allowedCounter;
+    private Counter localRejectedCounter;
+    private Counter rejectedCounter;
+    private Counter errorCounter;
+
+    @PostConstruct
+    public void init() {
+        this.localBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMillis(window))
+            .build();
+
+        this.allowedCounter = throttleCounter("allowed");
+        this.localRejectedCounter = throttleCounter("rejected_local");
+        this.rejectedCounter = throttleCounter("rejected");
+        this.errorCounter = throttleCounter("error");
+    }
+
+    /**
+     * 로그인 시도 허용 여부 확인. 허용되면 시도로 기록한다.
+     *
+     * @param email    로그인 이메일
+     * @param clientIp 요청 IP
+     * @return 0이면 허용, 양수면 재시도까지 남은 시간(ms)
+     */
+    public long tryAcquire(String email, String clientIp) {
+        TokenBucket bucket = localBuckets.get(clientIp,
+            ip -> new TokenBucket(ipLimit, (double) ipLimit / window));
+        long localWait = bucket.tryConsume();
+        if (localWait > 0) {
+            localRejectedCounter.increment();
+            return localWait;
+        }
+
+        try {
+            Long wait = redisTemplate.execute(ACQUIRE,
+                List.of(windowKey("email", email), lockKey("email", email),
+                    levelKey("email", email), windowKey("ip", clientIp),
+                    lockKey("ip", clientIp), levelKey("ip", clientIp)),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(window),
+                String.valueOf(emailLimit), String.valueOf(ipLimit),
+                UUID.randomUUID().toString(), String.valueOf(lockoutBase),
+                String.valueOf(lockoutMax), String.valueOf(lockoutReset));
+            if (wait != null && wait > 0) {
+                rejectedCounter.increment();
+                log.warn("로그인 시도 제한: 이메일 {}, IP {}, {}ms 후 재시도 가능", email, clientIp, wait);
+                return wait;
+            }
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.error("로그인 시도 제한 확인 실패, 로컬 제한만 적용: {}", e.getMessage());
+        }
+
+        allowedCounter.increment();
+        return 0;
+    }
+
+    /**
+     * 로그인 성공 시 이메일의 시도 기록과 잠금 단계 초기화
+     *
+     * @param email 로그인 이메일
+     */
+    public void recordSuccess(String email) {
+        try {
+            redisTemplate.delete(List.of(windowKey("email", email), levelKey("email", email)));
+        } catch (Exception e) {
+            log.error("로그인 시도 기록 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private String windowKey(String type, String value) {
+        return KEY_PREFIX + type + ":" + value;
+    }
+
+    private String lockKey(String type, String value) {
+        return KEY_PREFIX + type + ":lock:" + value;
+    }
+
+    private String levelKey(String type, String value) {
+        return KEY_PREFIX + type + ":level:" + value;
+    }
+
+    private Counter throttleCounter(String result) {
+        return Counter.builder("login.throttle")
+            .description("로그인 시도 제한 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 노드 로컬 토큰 버킷 (capacity개까지 몰아서 허용, 이후 refillPerMilli 속도로 회복)
+     */
+    static class TokenBucket {
+
+        private final double capacity;
+        private final double refillPerMilli;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(double capacity, double refillPerMilli) {
+            this.capacity = capacity;
+            this.refillPerMilli = refillPerMilli;
+            this.tokens = capacity;
+            this.lastRefill = System.currentTimeMillis();
+        }
+
+        // 0이면 토큰 사용, 양수면 다음 토큰까지 남은 시간(ms)
+        synchronized long tryConsume() {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerMilli);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / refillPerMilli);
+        }
+    }
+}
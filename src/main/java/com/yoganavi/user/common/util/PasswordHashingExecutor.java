@@ -0,0 +1,150 @@
+package com.yoganavi.user.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * <p>
+ * BCrypt 연산은 코어 수만큼의 전용 스레드에서만 수행하고, 대기열이 가득 차면 기다리지 않고 바로 거절한다. 동시에 해시를 기다리는 요청 스레드가 코어 수 +
+ * 대기열 크기로 제한되므로, 로그인이 몰려도 나머지 요청 스레드는 가벼운 API 처리에 쓸 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    // 0이면 사용 가능한 코어 수
+    @Value("${password.hashing.threads:0}")
+    private int threads;
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    // 대기 + 해시 시간 상한
+    @Value("${password.hashing.timeout:5000}")
+    private long timeout;
+
+    private ThreadPoolExecutor executor;
+    private Timer queueWaitTimer;
+    private Timer hashTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable,
+                    "password-hashing-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+        this.queueWaitTimer = Timer.builder("password.hashing.queue.wait")
+            .description("비밀번호 해시 대기열 대기 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.hashTimer = Timer.builder("password.hashing.duration")
+            .description("비밀번호 해시 연산 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+            .description("대기열 포화로 거절된 해시 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+            .description("비밀번호 해시 대기열 길이")
+            .register(meterRegistry);
+
+        log.info("비밀번호 해시 실행기: 스레드 {}, 대기열 {}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 해시 연산 없이 접두어/cost만 확인하므로 호출 스레드에서 바로 수행
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new SaturatedException("비밀번호 확인 요청이 많아 처리할 수 없습니다.");
+        }
+
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new SaturatedException("비밀번호 확인 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 확인 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 확인 실패", cause);
+        }
+    }
+
+    /**
+     * 해시 실행기가 포화되어 요청을 거절함 (503으로 응답)
+     */
+    public static class SaturatedException extends RuntimeException {
+
+        public SaturatedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.yoganavi.user.common.util;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소유자 토큰을 저장하는 Redis 잠금
+ * <p>
+ * 잠금 값으로 임의 토큰을 저장하고, 연장과 해제는 토큰이 일치할 때만 한다. TTL이 지나 다른 노드가 잠금을 가져간 뒤에는 이전 소유자가 그 잠금을 연장하거나
+ * 지우지 못한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final RedisScript<Long> EXTEND = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+            + "return 0",
+        Long.class);
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('DEL', KEYS[1]) end "
+            + "return 0",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 잠금 획득
+     *
+     * @param key 잠금 키
+     * @param ttl 잠금 유지 시간
+     * @return 소유자 토큰, 다른 노드가 잠금을 가지고 있으면 null
+     */
+    public String tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttl))
+            ? token : null;
+    }
+
+    /**
+     * 잠금 연장
+     *
+     * @return 아직 잠금을 가지고 있어 연장했으면 true
+     */
+    public boolean extend(String key, String token, Duration ttl) {
+        Long result = redisTemplate.execute(EXTEND, List.of(key), token,
+            String.valueOf(ttl.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    // 잠금 해제 (다른 노드가 가져간 잠금은 그대로 둠)
+    public void unlock(String key, String token) {
+        redisTemplate.execute(RELEASE, List.of(key), token);
+    }
+}
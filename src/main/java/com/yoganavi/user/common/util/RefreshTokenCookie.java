@@ -0,0 +1,24 @@
+package com.yoganavi.user.common.util;
+
+import com.yoganavi.user.common.constants.SecurityConstants;
+import java.time.Duration;
+import org.springframework.http.ResponseCookie;
+
+/**
+ * 리프레시 토큰 쿠키. 로그인과 재발급이 같은 속성으로 내려주도록 한 곳에서 생성
+ */
+public final class RefreshTokenCookie {
+
+    private RefreshTokenCookie() {
+    }
+
+    public static ResponseCookie of(String refreshToken) {
+        return ResponseCookie.from(SecurityConstants.REFRESH_TOKEN_COOKIE, refreshToken)
+            .httpOnly(true)
+            .secure(true)
+            .path("/")
+            .maxAge(Duration.ofDays(7))
+            .sameSite("None")
+            .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.yoganavi.user.common.util;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰 패밀리 저장소 (Redis hash, refresh:{email} -> {fid: 현재 jti})
+ * <p>
+ * 로그인(세션)마다 새 패밀리(fid)를 시작하고, 재발급할 때마다 그 패밀리의 현재 토큰 ID(jti)를 원자적으로 교체한다. 이미 교체된 이전 토큰이 다시 제출되면
+ * 탈취로 보고 패밀리를 폐기한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    public enum RotationResult {
+        ROTATED,
+        NOT_FOUND,      // 패밀리 없음 (로그아웃/만료)
+        REUSED          // 이미 교체된 토큰 재사용 -> 패밀리 폐기됨
+    }
+
+    private static final String KEY_PREFIX = "refresh:";
+
+    private static final RedisScript<Long> START = new DefaultRedisScript<>(
+        "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+            + "return 1",
+        Long.class);
+
+    // 1: 교체, 0: 없음, -1: 재사용(패밀리 삭제)
+    private static final RedisScript<Long> ROTATE = new DefaultRedisScript<>(
+        "local current = redis.call('HGET', KEYS[1], ARGV[1]) "
+            + "if not current then return 0 end "
+            + "if current ~= ARGV[2] then "
+            + "  redis.call('HDEL', KEYS[1], ARGV[1]) "
+            + "  return -1 "
+            + "end "
+            + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[3]) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+            + "return 1",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void start(String email, String familyId, String jti, long ttlMillis) {
+        redisTemplate.execute(START, List.of(key(email)), familyId, jti,
+            String.valueOf(ttlMillis));
+    }
+
+    /**
+     * 제출된 리프레시 토큰이 패밀리의 현재 토큰이면 새 토큰 ID로 교체
+     *
+     * @param email     사용자 이메일
+     * @param familyId  제출된 토큰의 패밀리 ID
+     * @param jti       제출된 토큰 ID
+     * @param newJti    새로 발급할 토큰 ID
+     * @param ttlMillis 리프레시 토큰 만료 시간
+     * @return 교체 결과
+     */
+    public RotationResult rotate(String email, String familyId, String jti, String newJti,
+        long ttlMillis) {
+        Long result = redisTemplate.execute(ROTATE, List.of(key(email)), familyId, jti, newJti,
+            String.valueOf(ttlMillis));
+        if (result == null) {
+            return RotationResult.NOT_FOUND;
+        }
+        return switch (result.intValue()) {
+            case 1 -> RotationResult.ROTATED;
+            case -1 -> RotationResult.REUSED;
+            default -> RotationResult.NOT_FOUND;
+        };
+    }
+
+    public boolean exists(String email) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(email)));
+    }
+
+    public void revoke(String email, String familyId) {
+        redisTemplate.opsForHash().delete(key(email), familyId);
+    }
+
+    public void revokeAll(String email) {
+        redisTemplate.delete(key(email));
+    }
+
+    private String key(String email) {
+        return KEY_PREFIX + email;
+    }
+}
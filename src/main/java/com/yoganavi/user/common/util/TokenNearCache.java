@@ -0,0 +1,131 @@
+package com.yoganavi.user.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 액세스 토큰 세대 캐시 (email -> 현재 토큰 세대)
+ * <p>
+ * Redis 앞단에서 토큰 유효성 확인을 네트워크 왕복 없이 처리한다. 세대가 바뀌면(전체 로그아웃 등) Redis pub/sub 채널로 무효화 메시지를 보내 모든
+ * 노드의 항목을 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenNearCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "token:invalidation";
+    private static final char SEPARATOR = '|';
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.near-cache.max-size:100000}")
+    private long maxSize;
+
+    // 무효화 메시지 유실 대비 최대 보관 시간
+    @Value("${jwt.near-cache.ttl:30000}")
+    private long ttl;
+
+    // 무효화가 일어날 때마다 증가. Redis 조회 중 무효화가 끼어들면 조회 결과를 캐시에 넣지 않는다.
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+
+    private Cache<String, Long> cache;
+    private Timer invalidationLag;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMillis(ttl))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.near");
+
+        // 무효화 메시지 발행부터 수신까지 걸린 시간 (다른 노드에서 오래된 값이 보일 수 있는 시간)
+        this.invalidationLag = Timer.builder("jwt.near.invalidation.lag")
+            .description("토큰 무효화 메시지 전파 지연")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public Long get(String email) {
+        return cache.getIfPresent(email);
+    }
+
+    public long epoch() {
+        return invalidationEpoch.get();
+    }
+
+    /**
+     * Redis에서 읽은 값을 캐시에 저장. 읽기 시작 이후 무효화가 있었다면 저장하지 않는다.
+     *
+     * @param email      사용자 이메일
+     * @param generation Redis에 저장된 토큰 세대
+     * @param readEpoch  Redis 조회 직전의 {@link #epoch()} 값
+     */
+    public void putIfUnchanged(String email, long generation, long readEpoch) {
+        if (invalidationEpoch.get() == readEpoch) {
+            cache.put(email, generation);
+        }
+    }
+
+    /**
+     * 로컬 항목을 제거하고 다른 노드에도 무효화를 전파
+     *
+     * @param email 사용자 이메일
+     */
+    public void invalidate(String email) {
+        evict(email);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                email + SEPARATOR + System.currentTimeMillis());
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 ttl 이후 정리됨
+            log.error("토큰 캐시 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.lastIndexOf(SEPARATOR);
+        if (idx < 0) {
+            evict(body);
+            return;
+        }
+
+        evict(body.substring(0, idx));
+        try {
+            long sentAt = Long.parseLong(body.substring(idx + 1));
+            invalidationLag.record(Duration.ofMillis(
+                Math.max(0, System.currentTimeMillis() - sentAt)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 무효화 메시지: {}", body);
+        }
+    }
+
+    private void evict(String email) {
+        invalidationEpoch.incrementAndGet();
+        cache.invalidate(email);
+    }
+}
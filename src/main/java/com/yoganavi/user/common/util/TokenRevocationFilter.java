@@ -0,0 +1,224 @@
+package com.yoganavi.user.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폐기된 액세스 토큰(jti) 확인용 Bloom filter
+ * <p>
+ * 폐기 목록의 원본은 Redis sorted set(member: jti, score: 토큰 만료 시각)이고, 각 노드는 이를 Bloom filter로 들고 있다. Bloom
+ * filter에 없으면 폐기되지 않은 토큰이므로 Redis 조회 없이 통과시키고, 있을 때만 Redis에서 확인한다.
+ * <p>
+ * 필터는 액세스 토큰 만료 시간 단위의 버킷으로 나눠 현재/이전 두 개만 유지한다. 버킷 안에서 폐기된 토큰은 늦어도 다음 버킷이 끝나기 전에 만료되므로 그
+ * 이전 버킷은 버려도 된다.
+ * <p>
+ * 다른 노드의 폐기는 pub/sub 메시지로 받지만 메시지는 유실될 수 있으므로(재연결, 네트워크 단절), 주기적으로 그리고 채널을 다시 구독할 때마다 sorted
+ * set 전체와 다시 맞춘다. 한 번도 맞추지 못했거나 구독이 끊긴 동안에는 필터를 믿지 않고 매번 Redis에서 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationFilter implements MessageListener, SubscriptionListener {
+
+    public static final String REVOCATION_CHANNEL = "token:revocation";
+    private static final String REVOKED_KEY = "token:revoked";
+    private static final char SEPARATOR = '|';
+
+    // 폐기 등록, 만료 항목 정리, 다른 노드 전파를 한 번에 처리
+    private static final RedisScript<Long> REVOKE = new DefaultRedisScript<>(
+        "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) "
+            + "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3]) "
+            + "redis.call('PUBLISH', ARGV[4], ARGV[1] .. '|' .. ARGV[2]) "
+            + "return 1",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.access-token-expiration}")
+    private long accessTokenExpiration;
+
+    // 버킷(액세스 토큰 만료 시간) 하나당 예상 폐기 수
+    @Value("${jwt.revocation.expected-revocations:100000}")
+    private long expectedRevocations;
+
+    @Value("${jwt.revocation.fpp:0.01}")
+    private double fpp;
+
+    private final ReentrantLock rotationLock = new ReentrantLock();
+
+    private volatile long currentBucket;
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+
+    // 폐기 목록과 맞추기 전이거나 구독이 끊긴 동안은 필터를 신뢰할 수 없으므로 항상 Redis에서 확인
+    private volatile boolean synced;
+
+    // 구독 상태가 바뀔 때마다 증가. 동기화 도중 바뀌었으면 그 결과로 synced를 켜지 않음
+    private final AtomicLong subscriptionEpoch = new AtomicLong();
+
+    private Counter negativeCounter;
+    private Counter confirmedCounter;
+    private Counter falsePositiveCounter;
+
+    @PostConstruct
+    public void init() {
+        this.currentBucket = bucketOf(System.currentTimeMillis());
+        this.current = newFilter();
+        this.previous = newFilter();
+
+        this.negativeCounter = revocationCounter("negative");
+        this.confirmedCounter = revocationCounter("revoked");
+        this.falsePositiveCounter = revocationCounter("false_positive");
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        resync();
+    }
+
+    /**
+     * 토큰 폐기 등록
+     *
+     * @param jti       토큰 ID
+     * @param expiresAt 토큰 만료 시각 (epoch millis)
+     */
+    public void revoke(String jti, long expiresAt) {
+        long now = System.currentTimeMillis();
+        if (expiresAt <= now) {
+            return;
+        }
+        addLocal(jti);
+        redisTemplate.execute(REVOKE, List.of(REVOKED_KEY), jti, String.valueOf(expiresAt),
+            String.valueOf(now), REVOCATION_CHANNEL);
+    }
+
+    /**
+     * 폐기 여부 확인. Bloom filter에 없으면 Redis 조회 없이 false
+     *
+     * @param jti 토큰 ID
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String jti) {
+        if (!mightBeRevoked(jti)) {
+            negativeCounter.increment();
+            return false;
+        }
+
+        Double expiresAt = redisTemplate.opsForZSet().score(REVOKED_KEY, jti);
+        boolean revoked = expiresAt != null && expiresAt > System.currentTimeMillis();
+        (revoked ? confirmedCounter : falsePositiveCounter).increment();
+        return revoked;
+    }
+
+    public boolean mightBeRevoked(String jti) {
+        rotateIfNeeded();
+        if (!synced) {
+            return true;
+        }
+        return current.mightContain(jti) || previous.mightContain(jti);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.lastIndexOf(SEPARATOR);
+        addLocal(idx < 0 ? body : body.substring(0, idx));
+    }
+
+    // 구독이 (다시) 연결되면 끊긴 동안 놓친 메시지가 있을 수 있으므로 맞출 때까지 Redis에서 확인
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        subscriptionEpoch.incrementAndGet();
+        synced = false;
+        CompletableFuture.runAsync(this::resync);
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        subscriptionEpoch.incrementAndGet();
+        synced = false;
+        log.warn("토큰 폐기 채널 구독 해제, 다시 맞출 때까지 Redis 조회로 대체");
+    }
+
+    private void addLocal(String jti) {
+        rotateIfNeeded();
+        current.put(jti);
+    }
+
+    /**
+     * 폐기 목록(sorted set)의 만료되지 않은 항목을 필터에 반영. 누락된 pub/sub 메시지를 보정한다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.resync-interval:30000}",
+        initialDelayString = "${jwt.revocation.resync-interval:30000}")
+    public void resync() {
+        long epoch = subscriptionEpoch.get();
+        try {
+            rotateIfNeeded();
+            Set<String> revoked = redisTemplate.opsForZSet()
+                .rangeByScore(REVOKED_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            if (revoked != null) {
+                revoked.forEach(current::put);
+            }
+            synced = epoch == subscriptionEpoch.get();
+            log.debug("토큰 폐기 필터 동기화 완료: {}건", revoked != null ? revoked.size() : 0);
+        } catch (Exception e) {
+            synced = false;
+            log.error("토큰 폐기 필터 동기화 실패, Redis 조회로 대체: {}", e.getMessage());
+        }
+    }
+
+    private void rotateIfNeeded() {
+        long bucket = bucketOf(System.currentTimeMillis());
+        if (bucket == currentBucket) {
+            return;
+        }
+
+        rotationLock.lock();
+        try {
+            if (bucket == currentBucket) {
+                return;
+            }
+            // 바로 다음 버킷이면 현재 필터를 이전으로, 그보다 더 지났으면 둘 다 만료
+            previous = (bucket == currentBucket + 1) ? current : newFilter();
+            current = newFilter();
+            currentBucket = bucket;
+        } finally {
+            rotationLock.unlock();
+        }
+    }
+
+    private long bucketOf(long timeMillis) {
+        return timeMillis / accessTokenExpiration;
+    }
+
+    private BloomFilter newFilter() {
+        return BloomFilter.create(expectedRevocations, fpp);
+    }
+
+    private Counter revocationCounter(String result) {
+        return Counter.builder("jwt.revocation.checks")
+            .description("토큰 폐기 확인 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.yoganavi.user.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 액세스 토큰 세대(generation) 저장소 (Redis, token:gen:{email} -> 정수)
+ * <p>
+ * 액세스 토큰은 발급 시점의 세대를 gen 클레임으로 가지고, 저장된 세대와 같을 때만 유효하다. 여러 기기의 세션이 동시에 유효하며, 전체 로그아웃은 INCR 한
+ * 번으로 모든 세션을 무효화한다. 키가 없으면 세대 0으로 본다.
+ * <p>
+ * 세대 도입 이전에 발급된 토큰(gen 클레임 없음)은 만료될 때까지 email 키에 저장된 토큰과 비교한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenStore {
+
+    private static final String GENERATION_KEY_PREFIX = "token:gen:";
+
+    // 저장된 토큰이 일치할 때만 삭제
+    private static final RedisScript<Long> DELETE_IF_MATCHES = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('DEL', KEYS[1]) "
+            + "end "
+            + "return 0",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long findGeneration(String email) {
+        return toGeneration(redisTemplate.opsForValue().get(generationKey(email)));
+    }
+
+    /**
+     * 여러 사용자의 세대를 MGET 한 번으로 조회
+     *
+     * @param emails 조회할 이메일 목록
+     * @return 이메일 순서와 같은 순서의 세대 목록
+     */
+    public List<Long> findGenerations(List<String> emails) {
+        List<String> keys = emails.stream().map(this::generationKey).toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+        List<Long> generations = new ArrayList<>(emails.size());
+        for (int i = 0; i < emails.size(); i++) {
+            generations.add(toGeneration(values != null ? values.get(i) : null));
+        }
+        return generations;
+    }
+
+    public long incrementGeneration(String email) {
+        Long generation = redisTemplate.opsForValue().increment(generationKey(email));
+        return generation != null ? generation : 0;
+    }
+
+    //=============아래로 세대 도입 이전 토큰 (email -> token)
+
+    public String findLegacyToken(String email) {
+        return redisTemplate.opsForValue().get(email);
+    }
+
+    public boolean deleteLegacyTokenIfMatches(String email, String token) {
+        Long deleted = redisTemplate.execute(DELETE_IF_MATCHES, List.of(email), token);
+        return deleted != null && deleted > 0;
+    }
+
+    public void deleteLegacyToken(String email) {
+        redisTemplate.delete(email);
+    }
+
+    private String generationKey(String email) {
+        return GENERATION_KEY_PREFIX + email;
+    }
+
+    private long toGeneration(String value) {
+        return value != null ? Long.parseLong(value) : 0;
+    }
+}
@@ -0,0 +1,260 @@
+package com.yoganavi.user.common.util;
+
+import com.yoganavi.user.common.repository.UserIdentity;
+import com.yoganavi.user.common.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가입된 이메일/닉네임 확인용 Bloom filter (Redis 비트맵, 모든 노드가 공유)
+ * <p>
+ * 필터에 없으면 가입된 적 없는 값이므로 DB 조회 없이 판정하고, 있을 때만 DB에서 확인한다. 시작 시 Users 테이블로 한 번 채우고(한 노드만 수행), 이후에는
+ * 저장 시점과 사용자 이벤트로 추가한다. Bloom filter는 삭제가 안 되므로 변경/탈퇴 전 값은 오탐으로 남아 DB 조회로 처리된다.
+ * <p>
+ * 초기화가 끝나기 전이나 Redis 장애 시에는 항상 "있을 수 있음"으로 응답해 DB 조회로 대체한다. 초기화 완료 표시는 각 비트맵의 마지막 다음 비트에
+ * 두므로, 비트맵이 메모리 정책으로 제거되면 완료 표시도 함께 사라져 DB 조회로 대체되고 다시 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserExistenceFilter {
+
+    private static final String KEY_PREFIX = "user:bloom:";
+
+    // 다시 채우기 시도 간격 (다른 노드가 채우는 중이면 잠금 때문에 건너뜀)
+    private static final long WARM_UP_RETRY_INTERVAL = 60_000;
+
+    // ARGV[1]: 완료 표시 비트 위치, 이후 비트 위치들. 1: 있을 수 있음, 0: 없음, -1: 초기화 전
+    private static final RedisScript<Long> CHECK = new DefaultRedisScript<>(
+        "if redis.call('GETBIT', KEYS[1], ARGV[1]) == 0 then return -1 end "
+            + "for i = 2, #ARGV do "
+            + "  if redis.call('GETBIT', KEYS[1], ARGV[i]) == 0 then return 0 end "
+            + "end "
+            + "return 1",
+        Long.class);
+
+    // ARGV[1]: 이메일 비트 수, 이후 이메일 비트 위치들과 닉네임 비트 위치들
+    private static final RedisScript<Long> ADD = new DefaultRedisScript<>(
+        "local split = tonumber(ARGV[1]) + 1 "
+            + "for i = 2, #ARGV do "
+            + "  redis.call('SETBIT', i <= split and KEYS[1] or KEYS[2], ARGV[i], 1) "
+            + "end "
+            + "return 1",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user.bloom.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${user.bloom.fpp:0.01}")
+    private double fpp;
+
+    @Value("${user.bloom.warm-up-page-size:1000}")
+    private int pageSize;
+
+    // 위치 계산 전용 (비트는 Redis에 저장)
+    private BloomFilter hashing;
+
+    private String emailKey;
+    private String nicknameKey;
+    private String warmUpLockKey;
+    // 해시 위치 범위 밖의 비트 (초기화 완료 표시)
+    private long readyBit;
+    private final AtomicLong nextWarmUpAt = new AtomicLong();
+
+    private Counter negativeCounter;
+    private Counter positiveCounter;
+    private Counter unavailableCounter;
+
+    @PostConstruct
+    public void init() {
+        this.hashing = BloomFilter.create(expectedInsertions, fpp);
+
+        // 크기가 바뀌면 비트 위치도 바뀌므로 키를 분리해 새로 채운다
+        String version = hashing.bitSize() + "-" + hashing.hashCount();
+        this.emailKey = KEY_PREFIX + version + ":email";
+        this.nicknameKey = KEY_PREFIX + version + ":nickname";
+        this.warmUpLockKey = KEY_PREFIX + version + ":warm-up";
+        this.readyBit = hashing.bitSize();
+
+        this.negativeCounter = bloomCounter("negative");
+        this.positiveCounter = bloomCounter("positive");
+        this.unavailableCounter = bloomCounter("unavailable");
+    }
+
+    public boolean mightContainEmail(String email) {
+        return mightContain(emailKey, email);
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        return mightContain(nicknameKey, nickname);
+    }
+
+    /**
+     * 이메일/닉네임 추가. 실패해도 초기화 전과 같이 DB 조회로 대체되므로 예외를 전파하지 않는다.
+     *
+     * @param email    이메일 (null이면 생략)
+     * @param nickname 닉네임 (null이면 생략)
+     */
+    public void add(String email, String nickname) {
+        List<String> args = new ArrayList<>();
+        args.add("0");
+        if (email != null) {
+            for (long index : hashing.indexes(normalize(email))) {
+                args.add(String.valueOf(index));
+            }
+            args.set(0, String.valueOf(args.size() - 1));
+        }
+        if (nickname != null) {
+            for (long index : hashing.indexes(normalize(nickname))) {
+                args.add(String.valueOf(index));
+            }
+        }
+        if (args.size() == 1) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(ADD, List.of(emailKey, nicknameKey), args.toArray());
+        } catch (Exception e) {
+            log.error("중복 확인 필터 추가 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Users 테이블로 필터 채우기. 이미 채워져 있거나 다른 노드가 채우는 중이면 건너뛴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long now = System.currentTimeMillis();
+        long next = nextWarmUpAt.get();
+        if (now < next || !nextWarmUpAt.compareAndSet(next, now + WARM_UP_RETRY_INTERVAL)) {
+            return;
+        }
+        Thread.ofVirtual().name("user-bloom-warm-up").start(this::populate);
+    }
+
+    private void populate() {
+        try {
+            if (isReady(emailKey) && isReady(nicknameKey)) {
+                return;
+            }
+            Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(warmUpLockKey, "1", Duration.ofMinutes(10));
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("다른 노드에서 중복 확인 필터 초기화 중");
+                return;
+            }
+
+            long afterId = 0;
+            long total = 0;
+            List<UserIdentity> page;
+            do {
+                page = userRepository.findIdentitiesAfter(afterId, PageRequest.ofSize(pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                addAll(page);
+                afterId = page.get(page.size() - 1).userId();
+                total += page.size();
+            } while (page.size() == pageSize);
+
+            redisTemplate.opsForValue().setBit(emailKey, readyBit, true);
+            redisTemplate.opsForValue().setBit(nicknameKey, readyBit, true);
+            redisTemplate.delete(warmUpLockKey);
+            log.info("중복 확인 필터 초기화 완료: {}명", total);
+        } catch (Exception e) {
+            // 잠금은 만료 후 다음 기동 노드가 다시 시도
+            log.error("중복 확인 필터 초기화 실패, DB 조회로 대체: {}", e.getMessage());
+        }
+    }
+
+    private boolean isReady(String key) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().getBit(key, readyBit));
+    }
+
+    // 페이지 단위로 SETBIT를 파이프라인 전송
+    private void addAll(List<UserIdentity> users) {
+        byte[] email = emailKey.getBytes(StandardCharsets.UTF_8);
+        byte[] nickname = nicknameKey.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UserIdentity user : users) {
+                setBits(connection, email, user.email());
+                setBits(connection, nickname, user.nickname());
+            }
+            return null;
+        });
+    }
+
+    private void setBits(RedisConnection connection, byte[] key, String value) {
+        if (value == null) {
+            return;
+        }
+        for (long index : hashing.indexes(normalize(value))) {
+            connection.stringCommands().setBit(key, index, true);
+        }
+    }
+
+    private boolean mightContain(String key, String value) {
+        long[] indexes = hashing.indexes(normalize(value));
+        Object[] args = new Object[indexes.length + 1];
+        args[0] = String.valueOf(readyBit);
+        for (int i = 0; i < indexes.length; i++) {
+            args[i + 1] = String.valueOf(indexes[i]);
+        }
+
+        try {
+            Long result = redisTemplate.execute(CHECK, List.of(key), args);
+            if (result != null && result == 0) {
+                negativeCounter.increment();
+                return false;
+            }
+            if (result != null && result == 1) {
+                positiveCounter.increment();
+                return true;
+            }
+            if (result != null && result == -1) {
+                // 기동 후 비트맵이 제거된 경우 다시 채움
+                warmUp();
+            }
+        } catch (Exception e) {
+            log.error("중복 확인 필터 조회 실패, DB 조회로 대체: {}", e.getMessage());
+        }
+        unavailableCounter.increment();
+        return true;
+    }
+
+    // MySQL 기본 collation이 대소문자를 구분하지 않으므로 같은 값으로 취급
+    private String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private Counter bloomCounter(String result) {
+        return Counter.builder("user.bloom.checks")
+            .description("가입 정보 중복 확인 필터 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
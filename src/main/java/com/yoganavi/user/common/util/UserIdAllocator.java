@@ -0,0 +1,83 @@
+package com.yoganavi.user.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자 ID 구간 할당기 (user_id_seq 테이블, pooled-lo 방식)
+ * <p>
+ * next_val을 읽고 요청한 개수만큼 올려 [next_val, next_val + count) 구간을 예약한다. 예약은 별도 트랜잭션에서 바로 커밋하므로 호출한 트랜잭션이
+ * 롤백되어도 구간은 버려질 뿐 다른 호출과 겹치지 않는다. {@link com.yoganavi.user.common.entity.Users}의 TableGenerator도 같은 행에서
+ * 같은 방식(hibernate.id.optimizer.pooled.preferred=pooled-lo)으로 구간을 가져간다.
+ * <p>
+ * Hibernate는 행이 없으면 1부터 시작하므로, 기존 사용자가 있는 DB에서도 겹치지 않도록 시작 시 MAX(user_id) + 1로 행을 만들어 둔다.
+ */
+@Slf4j
+@Component
+public class UserIdAllocator implements SmartInitializingSingleton {
+
+    public static final String USERS = "users";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserIdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+            TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // EntityManagerFactory(ddl-auto) 생성 이후, 요청을 받기 전에 실행
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            initialize();
+            // UserEventLog의 TableGenerator도 기존 로그 ID 다음부터 시작하도록
+            jdbcTemplate.update("INSERT IGNORE INTO user_event_log_id_seq (sequence_name, next_val) "
+                + "SELECT 'user_event_logs', COALESCE(MAX(id), 0) + 1 FROM user_event_logs");
+        });
+    }
+
+    /**
+     * ID 구간 예약
+     *
+     * @param count 필요한 ID 개수
+     * @return 예약된 첫 ID (first ~ first + count - 1 사용 가능)
+     */
+    public long allocate(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("할당할 ID 개수는 1 이상이어야 합니다.");
+        }
+        Long first = transactionTemplate.execute(status -> {
+            Long next = lockNext();
+            if (next == null) {
+                initialize();
+                next = lockNext();
+            }
+            jdbcTemplate.update(
+                "UPDATE user_id_seq SET next_val = next_val + ? WHERE sequence_name = ?",
+                count, USERS);
+            return next;
+        });
+        log.debug("사용자 ID 구간 할당: {} ~ {}", first, first + count - 1);
+        return first;
+    }
+
+    private Long lockNext() {
+        return jdbcTemplate.query(
+            "SELECT next_val FROM user_id_seq WHERE sequence_name = ? FOR UPDATE",
+            rs -> rs.next() ? rs.getLong(1) : null, USERS);
+    }
+
+    // 기존 사용자 ID 다음부터 시작. 동시에 초기화하면 한쪽은 PK 중복으로 무시
+    private void initialize() {
+        jdbcTemplate.update("INSERT IGNORE INTO user_id_seq (sequence_name, next_val) "
+            + "SELECT ?, COALESCE(MAX(user_id), 0) + 1 FROM users", USERS);
+    }
+}
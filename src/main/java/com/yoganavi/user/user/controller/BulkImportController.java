@@ -0,0 +1,136 @@
+package com.yoganavi.user.user.controller;
+
+import com.yoganavi.user.user.dto.bulk.BulkImportProgress;
+import com.yoganavi.user.user.service.bulk.BulkImportService;
+import com.yoganavi.user.user.service.bulk.UserImportReader.Format;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/user/import")
+public class BulkImportController {
+
+    private final BulkImportService bulkImportService;
+
+    // 대량 가입을 요청할 수 있는 역할 (게이트웨이가 전달하는 X-Role, 부여 방법은 Users.Role.ADMIN 참고)
+    @Value("${user.import.allowed-role:ADMIN}")
+    private String allowedRole;
+
+    /**
+     * 대량 가입 작업 시작 (CSV 또는 JSON 파일)
+     *
+     * @param file   email,password,nickname,teacher 행을 담은 파일
+     * @param format csv 또는 json (생략 시 파일 확장자로 판단)
+     * @return 작업 ID와 진행 상황
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> startImport(
+        @RequestHeader("X-Role") String role,
+        @RequestParam("file") MultipartFile file,
+        @RequestParam(value = "format", required = false) String format) {
+        if (!allowedRole.equals(role)) {
+            return forbidden();
+        }
+
+        log.info("대량 가입 요청: 파일 {}, 크기 {}", file.getOriginalFilename(), file.getSize());
+        try (InputStream in = file.getInputStream()) {
+            BulkImportProgress progress = bulkImportService.start(in,
+                resolveFormat(format, file.getOriginalFilename()));
+            return response(HttpStatus.ACCEPTED, "대량 가입 작업이 시작되었습니다.", progress);
+        } catch (IllegalArgumentException e) {
+            return response(HttpStatus.BAD_REQUEST, e.getMessage(), null);
+        } catch (Exception e) {
+            log.error("대량 가입 작업 시작 실패", e);
+            return response(HttpStatus.INTERNAL_SERVER_ERROR, "대량 가입 작업 시작 중 오류 발생", null);
+        }
+    }
+
+    /**
+     * 중단된 작업을 체크포인트부터 재개. 작업 파일이 이 서버에 없으면 같은 파일을 다시 업로드한다.
+     *
+     * @param jobId 작업 ID
+     * @param file  처음 업로드한 파일 (선택)
+     * @return 진행 상황
+     */
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<Map<String, Object>> resumeImport(
+        @RequestHeader("X-Role") String role,
+        @PathVariable String jobId,
+        @RequestParam(value = "file", required = false) MultipartFile file) {
+        if (!allowedRole.equals(role)) {
+            return forbidden();
+        }
+
+        try (InputStream in = file != null ? file.getInputStream() : null) {
+            BulkImportProgress progress = bulkImportService.resume(jobId, in);
+            return response(HttpStatus.ACCEPTED, "대량 가입 작업을 재개했습니다.", progress);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return response(HttpStatus.BAD_REQUEST, e.getMessage(), null);
+        } catch (Exception e) {
+            log.error("대량 가입 작업 재개 실패: {}", jobId, e);
+            return response(HttpStatus.INTERNAL_SERVER_ERROR, "대량 가입 작업 재개 중 오류 발생", null);
+        }
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     *
+     * @param jobId 작업 ID
+     * @return 처리한 행 수, 저장/건너뜀/실패 건수
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<Map<String, Object>> getProgress(
+        @RequestHeader("X-Role") String role,
+        @PathVariable String jobId) {
+        if (!allowedRole.equals(role)) {
+            return forbidden();
+        }
+
+        BulkImportProgress progress = bulkImportService.getProgress(jobId);
+        if (progress == null) {
+            return response(HttpStatus.NOT_FOUND, "존재하지 않는 작업입니다.", null);
+        }
+        return response(HttpStatus.OK, "조회 성공", progress);
+    }
+
+    private Format resolveFormat(String format, String filename) {
+        String value = format != null ? format
+            : filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".json") ? "json"
+                : "csv";
+        try {
+            return Format.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + value);
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> forbidden() {
+        return response(HttpStatus.FORBIDDEN, "권한이 없습니다.", null);
+    }
+
+    private ResponseEntity<Map<String, Object>> response(HttpStatus status, String message,
+        Object data) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("code", status.value());
+        response.put("message", message);
+        response.put("data", data);
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -31,7 +31,7 @@ public class DeleteController {
         try {
             log.info("회원 탈퇴 요청 :  사용자 {}", userId);
             deleteService.requestDeleteUser(userId);
-            jwtUtil.logout(token);  // 회원 탈퇴 시 로그아웃 처리
+            jwtUtil.logoutAll(token);  // 회원 탈퇴 시 모든 기기에서 로그아웃 처리
             response.put("message",
                 "탈퇴 요청이 성공적으로 처리되었습니다. 7일 후에 계정이 삭제됩니다. 7일 이내에 로그인 시 자동으로 탈퇴가 취소됩니다.");
             response.put("data", new Object[]{});
@@ -1,13 +1,21 @@
 package com.yoganavi.user.user.controller;
 
 import com.yoganavi.user.common.constants.SecurityConstants;
+import com.yoganavi.user.common.util.RefreshTokenCookie;
+import com.yoganavi.user.user.dto.jwt.IntrospectRequestDto;
+import com.yoganavi.user.user.dto.jwt.IntrospectResponseDto;
+import com.yoganavi.user.user.dto.jwt.TokenResponseDto;
 import com.yoganavi.user.user.service.jwt.JwtService;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,26 +26,72 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/user/token")
 public class JwtController {
 
+    private static final int MAX_INTROSPECT_TOKENS = 100;
+
     private final JwtService jwtService;
 
     @PostMapping
     public ResponseEntity<Map<String, Object>> reissueToekn(
         @RequestHeader(SecurityConstants.JWT_HEADER) String token,
-        @RequestHeader(SecurityConstants.REFRESH_TOKEN_HEADER) String refreshToken) {
+        @RequestHeader(value = SecurityConstants.REFRESH_TOKEN_HEADER, required = false)
+        String refreshToken,
+        @CookieValue(value = SecurityConstants.REFRESH_TOKEN_COOKIE, required = false)
+        String refreshTokenCookie) {
+        // 헤더가 없으면 로그인 때 받은 쿠키 사용
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            refreshToken = refreshTokenCookie;
+        }
         log.info("member - 토큰 재발급 요청. access token => {}, refresh token => {}", token,
             refreshToken);
         Map<String, Object> responseBody = new HashMap<>();
         try {
-            String accessToken = jwtService.reIssueRefreshToken(token, refreshToken);
+            TokenResponseDto tokens = jwtService.reIssueRefreshToken(token, refreshToken);
 
             responseBody.put("code", "200");
             responseBody.put("data", null);
+            // 리프레시 토큰은 재발급마다 교체되므로 새 토큰을 헤더와 쿠키 모두 갱신
+            // (쿠키를 그대로 두면 다음 재발급에서 이전 토큰이 재사용으로 감지되어 전체 세션이 폐기됨)
             return ResponseEntity.ok()
-                .header(SecurityConstants.JWT_HEADER, "Bearer " + accessToken).body(responseBody);
+                .header(SecurityConstants.JWT_HEADER, "Bearer " + tokens.getAccessToken())
+                .header(SecurityConstants.REFRESH_TOKEN_HEADER, tokens.getRefreshToken())
+                .header(HttpHeaders.SET_COOKIE,
+                    RefreshTokenCookie.of(tokens.getRefreshToken()).toString())
+                .body(responseBody);
         } catch (Exception e) {
             responseBody.put("code", "401");
             responseBody.put("message", "토큰 재발급 불가");
             return ResponseEntity.ok().body(responseBody);
         }
     }
+
+    /**
+     * 여러 토큰의 상태와 사용자 정보를 한 번에 조회 (게이트웨이/내부 서비스용)
+     *
+     * @param request 확인할 토큰 목록
+     * @return 입력 순서와 같은 순서의 토큰별 상태, 이메일, 역할, 사용자 ID
+     */
+    @PostMapping("/introspect")
+    public ResponseEntity<Map<String, Object>> introspect(
+        @RequestBody IntrospectRequestDto request) {
+        Map<String, Object> responseBody = new HashMap<>();
+
+        List<String> tokens = request.getTokens();
+        if (tokens == null || tokens.isEmpty() || tokens.size() > MAX_INTROSPECT_TOKENS) {
+            responseBody.put("code", "400");
+            responseBody.put("message", "토큰은 1개 이상 " + MAX_INTROSPECT_TOKENS + "개 이하로 요청해야 합니다.");
+            return ResponseEntity.badRequest().body(responseBody);
+        }
+
+        try {
+            List<IntrospectResponseDto> results = jwtService.introspect(tokens);
+            responseBody.put("code", "200");
+            responseBody.put("data", results);
+            return ResponseEntity.ok(responseBody);
+        } catch (Exception e) {
+            log.error("토큰 일괄 확인 중 오류 발생", e);
+            responseBody.put("code", "500");
+            responseBody.put("message", "토큰 확인 중 오류가 발생했습니다.");
+            return ResponseEntity.internalServerError().body(responseBody);
+        }
+    }
 }
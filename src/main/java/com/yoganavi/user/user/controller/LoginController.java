@@ -1,19 +1,22 @@
 package com.yoganavi.user.user.controller;
 
 import com.yoganavi.user.common.constants.SecurityConstants;
+import com.yoganavi.user.common.util.ClientIpResolver;
 import com.yoganavi.user.common.util.JwtUtil;
+import com.yoganavi.user.common.util.LoginThrottle;
+import com.yoganavi.user.common.util.PasswordHashingExecutor.SaturatedException;
+import com.yoganavi.user.common.util.RefreshTokenCookie;
 import com.yoganavi.user.user.dto.login.LoginRequestDto;
 import com.yoganavi.user.user.dto.login.LoginResponseDto;
 import com.yoganavi.user.user.service.login.LoginService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -29,24 +32,33 @@ public class LoginController {
 
     private final JwtUtil jwtUtil;
     private final LoginService loginService;
+    private final LoginThrottle loginThrottle;
+    private final ClientIpResolver clientIpResolver;
 
     @PostMapping("/login")
     public ResponseEntity<Map<String, Object>> login(@RequestBody LoginRequestDto request,
-        HttpServletResponse response) {
+        HttpServletRequest httpRequest, HttpServletResponse response) {
+        // 시도 횟수 제한 (DB 조회, 비밀번호 해시 전에 거절)
+        // 게이트웨이 뒤에서는 연결 주소가 게이트웨이이므로 X-Forwarded-For에서 실제 클라이언트 IP를 찾음
+        long retryAfter = loginThrottle.tryAcquire(request.getEmail(),
+            clientIpResolver.resolve(httpRequest));
+        if (retryAfter > 0) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("code", 429);
+            errorResponse.put("message", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER,
+                    String.valueOf(Math.max(1, (retryAfter + 999) / 1000)))
+                .body(errorResponse);
+        }
+
         try {
             LoginResponseDto loginResult = loginService.login(request);
+            loginThrottle.recordSuccess(request.getEmail());
 
             // 리프레시 토큰 쿠키에
-            ResponseCookie refreshTokenCookie = ResponseCookie.from(
-                    SecurityConstants.REFRESH_TOKEN_COOKIE,
-                    loginResult.getRefreshToken())
-                .httpOnly(true)
-                .secure(true)
-                .path("/")
-                .maxAge(Duration.ofDays(7))
-                .sameSite("None")
-                .build();
-            response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString());
+            response.addHeader(HttpHeaders.SET_COOKIE,
+                RefreshTokenCookie.of(loginResult.getRefreshToken()).toString());
 
             // 성공 응답
             Map<String, Object> successResponse = new HashMap<>();
@@ -58,6 +70,16 @@ public class LoginController {
                 .header(SecurityConstants.JWT_HEADER, "Bearer " + loginResult.getAccessToken())
                 .body(successResponse);
 
+        } catch (SaturatedException e) {
+            // 해시 대기열 포화: 요청 스레드를 붙잡지 않고 바로 거절
+            log.warn("로그인 요청 거절: {}", e.getMessage());
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("code", 503);
+            errorResponse.put("message", "요청이 많아 잠시 후 다시 시도해 주세요.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
         } catch (Exception e) {
             // 서버 에러
             log.error("로그인 중 예기치 않은 에러 발생", e);
@@ -95,4 +117,31 @@ public class LoginController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
+
+    @PostMapping("/logout/all")
+    public ResponseEntity<Map<String, Object>> logoutAll(
+        @RequestHeader(SecurityConstants.JWT_HEADER) String token) {
+        log.info("전체 로그아웃 요청 : 사용자 {}", jwtUtil.getUserIdFromToken(token));
+
+        Map<String, Object> response = new HashMap<>();
+        try {
+            boolean logoutSuccess = jwtUtil.logoutAll(token);
+            if (logoutSuccess) {
+                log.info("전체 로그아웃 성공");
+                response.put("message", "모든 기기에서 로그아웃 성공");
+                response.put("data", new Object[]{});
+                return ResponseEntity.ok(response);
+            } else {
+                log.warn("전체 로그아웃 실패");
+                response.put("message", "전체 로그아웃 실패");
+                response.put("data", new Object[]{});
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+        } catch (Exception e) {
+            log.error("전체 로그아웃중 에러 발생: " + e);
+            response.put("message", "전체 로그아웃 처리 중 오류 발생");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
 }
\ No newline at end of file
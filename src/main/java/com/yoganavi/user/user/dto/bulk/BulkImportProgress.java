@@ -0,0 +1,16 @@
+package com.yoganavi.user.user.dto.bulk;
+
+import lombok.Data;
+
+@Data
+public class BulkImportProgress {
+
+    private String jobId;
+    private String status;          // RUNNING, COMPLETED, FAILED
+    private long processedRows;     // 체크포인트 (이 행까지 처리 완료, 재개 시 다음 행부터)
+    private long imported;
+    private long skipped;           // 이미 가입된 이메일/닉네임, 파일 내 중복
+    private long failed;            // 형식 오류
+    private String lastError;
+    private String updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.yoganavi.user.user.dto.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportRow {
+
+    private String email;
+    private String password;
+    private String nickname;
+    private boolean teacher;
+}
@@ -0,0 +1,12 @@
+package com.yoganavi.user.user.dto.jwt;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class IntrospectRequestDto {
+
+    private List<String> tokens;
+}
@@ -0,0 +1,14 @@
+package com.yoganavi.user.user.dto.jwt;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class IntrospectResponseDto {
+
+    private String status;
+    private String email;
+    private String role;
+    private Long userId;
+}
@@ -0,0 +1,12 @@
+package com.yoganavi.user.user.dto.jwt;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TokenResponseDto {
+
+    private String accessToken;
+    private String refreshToken;
+}
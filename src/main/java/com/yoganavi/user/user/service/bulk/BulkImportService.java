@@ -0,0 +1,15 @@
+package com.yoganavi.user.user.service.bulk;
+
+import com.yoganavi.user.user.dto.bulk.BulkImportProgress;
+import com.yoganavi.user.user.service.bulk.UserImportReader.Format;
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface BulkImportService {
+
+    BulkImportProgress start(InputStream file, Format format) throws IOException;
+
+    BulkImportProgress resume(String jobId, InputStream file) throws IOException;
+
+    BulkImportProgress getProgress(String jobId);
+}
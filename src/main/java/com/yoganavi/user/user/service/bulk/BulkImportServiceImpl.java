@@ -0,0 +1,447 @@
+package com.yoganavi.user.user.service.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoganavi.kafka.service.KafkaProducerService;
+import com.yoganavi.user.common.entity.Users;
+import com.yoganavi.user.common.repository.UserBulkRepository;
+import com.yoganavi.user.common.util.RedisLock;
+import com.yoganavi.user.common.util.UserExistenceFilter;
+import com.yoganavi.user.common.util.UserIdAllocator;
+import com.yoganavi.user.user.dto.bulk.BulkImportProgress;
+import com.yoganavi.user.user.dto.bulk.BulkImportRow;
+import com.yoganavi.user.user.service.bulk.UserImportReader.Entry;
+import com.yoganavi.user.user.service.bulk.UserImportReader.Format;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대량 가입 처리
+ * <p>
+ * 업로드한 파일을 작업 디렉터리에 저장한 뒤 chunk-size 행씩 읽어 처리한다. 청크마다 기존 가입 여부를 한 번에 조회하고, 비밀번호는 전용 스레드에서 병렬로
+ * 해시하고, ID 구간을 한 번에 할당받아 사용자와 생성 이벤트(발행 대기열)를 같은 트랜잭션에서 JDBC 배치로 저장한다.
+ * <p>
+ * 진행 상황과 체크포인트(처리 완료한 행 번호)는 Redis에 저장한다. 중단된 작업은 체크포인트 다음 행부터 재개하고, 이미 저장된 행은 기존 가입으로
+ * 건너뛰므로 같은 청크를 다시 처리해도 중복 저장되지 않는다. 이벤트는 사용자와 함께 커밋되므로 중단 시점과 관계없이 빠지지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportServiceImpl implements BulkImportService {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private static final String KEY_PREFIX = "user:import:";
+    private static final Pattern EMAIL = Pattern.compile("[^@\\s]+@[^@\\s]+\\.[^@\\s]+");
+    private static final int MAX_NICKNAME_LENGTH = 30;
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    // 카운터 증가와 체크포인트 이동을 한 번에 처리
+    private static final RedisScript<Long> CHECKPOINT = new DefaultRedisScript<>(
+        "redis.call('HINCRBY', KEYS[1], 'imported', ARGV[1]) "
+            + "redis.call('HINCRBY', KEYS[1], 'skipped', ARGV[2]) "
+            + "redis.call('HINCRBY', KEYS[1], 'failed', ARGV[3]) "
+            + "redis.call('HSET', KEYS[1], 'processedRows', ARGV[4], 'updatedAt', ARGV[5]) "
+            + "if ARGV[6] ~= '' then redis.call('HSET', KEYS[1], 'lastError', ARGV[6]) end "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[7]) "
+            + "return 1",
+        Long.class);
+
+    private final UserBulkRepository userBulkRepository;
+    private final UserIdAllocator userIdAllocator;
+    private final PasswordEncoder passwordEncoder;
+    private final KafkaProducerService kafkaProducerService;
+    private final UserExistenceFilter userExistenceFilter;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLock redisLock;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user.import.chunk-size:500}")
+    private int chunkSize;
+
+    // 0이면 코어 수의 절반 (로그인 비밀번호 확인과 CPU를 나눠 쓰도록).
+    // PasswordHashingExecutor를 쓰지 않는 이유: 청크 단위(수백 건)로 한꺼번에 넣으면 로그인용 대기열이 가득 차서 로그인이
+    // 거절(503)되므로, 대량 가입은 별도 스레드에서 기다리며 처리하고 로그인 실행기는 요청용으로만 남긴다
+    @Value("${user.import.hashing-threads:0}")
+    private int hashingThreads;
+
+    @Value("${user.import.work-dir:${java.io.tmpdir}/user-import}")
+    private String workDir;
+
+    // 진행 상황 보관 시간
+    @Value("${user.import.progress-ttl:604800000}")
+    private long progressTtl;
+
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService hashingExecutor;
+    private ExecutorService jobExecutor;
+    private TransactionTemplate transactionTemplate;
+    private Timer chunkTimer;
+
+    @PostConstruct
+    public void init() {
+        int threads = hashingThreads > 0 ? hashingThreads
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashingExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 작업은 한 번에 하나씩 (나머지는 대기)
+        this.jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTimer = Timer.builder("user.import.chunk")
+            .description("대량 가입 청크 처리 시간")
+            .register(meterRegistry);
+
+        try {
+            Files.createDirectories(Path.of(workDir));
+        } catch (IOException e) {
+            throw new UncheckedIOException("대량 가입 작업 디렉터리를 만들 수 없습니다: " + workDir, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 작업은 RUNNING으로 남고, 재개 요청 시 체크포인트부터 이어서 처리
+        jobExecutor.shutdownNow();
+        hashingExecutor.shutdownNow();
+    }
+
+    @Override
+    public BulkImportProgress start(InputStream file, Format format) throws IOException {
+        String jobId = UUID.randomUUID().toString();
+        Path path = filePath(jobId, format);
+        String fileHash = store(file, path);
+
+        Map<String, String> state = new HashMap<>();
+        state.put("status", RUNNING);
+        state.put("format", format.name());
+        state.put("fileHash", fileHash);
+        state.put("processedRows", "0");
+        state.put("imported", "0");
+        state.put("skipped", "0");
+        state.put("failed", "0");
+        state.put("updatedAt", LocalDateTime.now().toString());
+        redisTemplate.opsForHash().putAll(key(jobId), state);
+        redisTemplate.expire(key(jobId), Duration.ofMillis(progressTtl));
+
+        log.info("대량 가입 작업 등록: {} ({})", jobId, format);
+        submit(jobId, path, format);
+        return getProgress(jobId);
+    }
+
+    @Override
+    public BulkImportProgress resume(String jobId, InputStream file) throws IOException {
+        Map<Object, Object> state = redisTemplate.opsForHash().entries(key(jobId));
+        if (state.isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 작업입니다.");
+        }
+        if (COMPLETED.equals(state.get("status"))) {
+            return toProgress(jobId, state);
+        }
+
+        Format format = Format.valueOf((String) state.get("format"));
+        Path path = filePath(jobId, format);
+        if (file != null) {
+            Path upload = Path.of(workDir, jobId + ".upload");
+            String fileHash = store(file, upload);
+            if (!fileHash.equals(state.get("fileHash"))) {
+                Files.deleteIfExists(upload);
+                throw new IllegalArgumentException("처음 업로드한 파일과 다릅니다.");
+            }
+            Files.move(upload, path, StandardCopyOption.REPLACE_EXISTING);
+        } else if (!Files.exists(path)) {
+            throw new IllegalStateException("작업 파일이 없습니다. 같은 파일을 다시 업로드해 주세요.");
+        }
+
+        redisTemplate.opsForHash().put(key(jobId), "status", RUNNING);
+        log.info("대량 가입 작업 재개: {} ({}행부터)", jobId, state.get("processedRows"));
+        submit(jobId, path, format);
+        return getProgress(jobId);
+    }
+
+    @Override
+    public BulkImportProgress getProgress(String jobId) {
+        Map<Object, Object> state = redisTemplate.opsForHash().entries(key(jobId));
+        return state.isEmpty() ? null : toProgress(jobId, state);
+    }
+
+    private void submit(String jobId, Path path, Format format) {
+        if (!runningJobs.add(jobId)) {
+            throw new IllegalStateException("이미 진행 중인 작업입니다.");
+        }
+        jobExecutor.execute(() -> {
+            try {
+                run(jobId, path, format);
+            } finally {
+                runningJobs.remove(jobId);
+            }
+        });
+    }
+
+    private void run(String jobId, Path path, Format format) {
+        String lockKey = key(jobId) + ":lock";
+        String lockToken = redisLock.tryLock(lockKey, LOCK_TTL);
+        if (lockToken == null) {
+            log.warn("다른 노드에서 진행 중인 대량 가입 작업: {}", jobId);
+            return;
+        }
+
+        try {
+            long checkpoint = Long.parseLong(
+                (String) redisTemplate.opsForHash().get(key(jobId), "processedRows"));
+            try (InputStream in = Files.newInputStream(path);
+                UserImportReader reader = UserImportReader.open(in, format, objectMapper)) {
+                reader.skip(checkpoint);
+
+                List<Entry> chunk = new ArrayList<>(chunkSize);
+                Entry entry;
+                while ((entry = reader.next()) != null) {
+                    chunk.add(entry);
+                    if (chunk.size() == chunkSize) {
+                        processChunk(jobId, chunk);
+                        chunk.clear();
+                        // 잠금이 만료되어 다른 노드가 이어받았으면 중복 처리하지 않도록 중단
+                        if (!redisLock.extend(lockKey, lockToken, LOCK_TTL)) {
+                            log.warn("대량 가입 작업 잠금 만료, 중단: {}", jobId);
+                            return;
+                        }
+                    }
+                    if (Thread.currentThread().isInterrupted()) {
+                        log.warn("대량 가입 작업 중단: {}", jobId);
+                        return;
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    processChunk(jobId, chunk);
+                }
+            }
+
+            redisTemplate.opsForHash().put(key(jobId), "status", COMPLETED);
+            Files.deleteIfExists(path);
+            log.info("대량 가입 작업 완료: {}", jobId);
+        } catch (Exception e) {
+            // 파일은 남겨 두고 재개 요청 시 체크포인트부터 다시 처리
+            log.error("대량 가입 작업 실패: {}", jobId, e);
+            redisTemplate.opsForHash().put(key(jobId), "status", FAILED);
+            redisTemplate.opsForHash().put(key(jobId), "lastError", String.valueOf(e.getMessage()));
+        } finally {
+            redisLock.unlock(lockKey, lockToken);
+        }
+    }
+
+    void processChunk(String jobId, List<Entry> chunk) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long failed = 0;
+        long skipped = 0;
+        String lastError = "";
+
+        // 형식 검사와 파일 내 중복 제거
+        List<BulkImportRow> candidates = new ArrayList<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> nicknames = new HashSet<>();
+        for (Entry entry : chunk) {
+            String error = entry.error() != null ? entry.error() : validate(entry.row());
+            if (error != null) {
+                failed++;
+                lastError = entry.index() + "행: " + error;
+                continue;
+            }
+            String email = normalize(entry.row().getEmail());
+            String nickname = normalize(entry.row().getNickname());
+            if (emails.contains(email) || nicknames.contains(nickname)) {
+                skipped++;
+                continue;
+            }
+            emails.add(email);
+            nicknames.add(nickname);
+            candidates.add(entry.row());
+        }
+
+        // 이미 가입된 이메일/닉네임 제외 (청크당 두 번 조회)
+        Set<String> existingEmails = userBulkRepository.findExistingEmails(
+            candidates.stream().map(BulkImportRow::getEmail).toList());
+        Set<String> existingNicknames = userBulkRepository.findExistingNicknames(
+            candidates.stream().map(BulkImportRow::getNickname).toList());
+        List<BulkImportRow> newRows = new ArrayList<>();
+        for (BulkImportRow row : candidates) {
+            if (existingEmails.contains(normalize(row.getEmail()))
+                || existingNicknames.contains(normalize(row.getNickname()))) {
+                skipped++;
+            } else {
+                newRows.add(row);
+            }
+        }
+
+        long imported = 0;
+        if (!newRows.isEmpty()) {
+            List<Users> users = hashPasswords(newRows);
+            long firstId = userIdAllocator.allocate(users.size());
+            for (int i = 0; i < users.size(); i++) {
+                users.get(i).setUserId(firstId + i);
+            }
+
+            List<Users> inserted = insert(users);
+            inserted.forEach(user -> userExistenceFilter.add(user.getEmail(), user.getNickname()));
+
+            imported = inserted.size();
+            skipped += users.size() - inserted.size();
+        }
+
+        redisTemplate.execute(CHECKPOINT, List.of(key(jobId)), String.valueOf(imported),
+            String.valueOf(skipped), String.valueOf(failed),
+            String.valueOf(chunk.get(chunk.size() - 1).index()), LocalDateTime.now().toString(),
+            lastError, String.valueOf(progressTtl));
+        sample.stop(chunkTimer);
+
+        log.info("대량 가입 청크 처리: {} (저장 {}, 건너뜀 {}, 실패 {})", jobId, imported, skipped,
+            failed);
+    }
+
+    private List<Users> hashPasswords(List<BulkImportRow> rows) {
+        List<CompletableFuture<Users>> futures = rows.stream()
+            .map(row -> CompletableFuture.supplyAsync(() -> {
+                Users user = new Users();
+                user.setEmail(row.getEmail());
+                user.setPwd(passwordEncoder.encode(row.getPassword()));
+                user.setNickname(row.getNickname());
+                user.setIsDeleted(false);
+                user.setRole(row.isTeacher() ? "TEACHER" : "STUDENT");
+                return user;
+            }, hashingExecutor))
+            .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private List<Users> insert(List<Users> users) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userBulkRepository.insertAll(users);
+                kafkaProducerService.publishUserCreatedEvents(users);
+            });
+            return users;
+        } catch (DataIntegrityViolationException e) {
+            // 조회 이후 다른 요청이 같은 이메일/닉네임으로 가입한 경우: 한 행씩 저장하고 중복만 건너뜀
+            log.warn("대량 가입 배치 저장 중 중복 발생, 행 단위로 재시도: {}", e.getMessage());
+            List<Users> inserted = new ArrayList<>();
+            for (Users user : users) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        userBulkRepository.insertAll(List.of(user));
+                        kafkaProducerService.publishUserCreatedEvents(List.of(user));
+                    });
+                    inserted.add(user);
+                } catch (DataIntegrityViolationException duplicate) {
+                    log.debug("이미 가입된 사용자 건너뜀: {}", user.getEmail());
+                }
+            }
+            return inserted;
+        }
+    }
+
+    private String validate(BulkImportRow row) {
+        if (row.getEmail() == null || !EMAIL.matcher(row.getEmail()).matches()) {
+            return "이메일 형식 오류";
+        }
+        if (row.getPassword() == null || row.getPassword().isEmpty()) {
+            return "비밀번호 없음";
+        }
+        if (row.getNickname() == null || row.getNickname().isBlank()
+            || row.getNickname().length() > MAX_NICKNAME_LENGTH) {
+            return "닉네임 형식 오류";
+        }
+        return null;
+    }
+
+    // MySQL 기본 collation이 대소문자를 구분하지 않으므로 같은 값으로 취급
+    private String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private String store(InputStream in, Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (DigestInputStream digestIn = new DigestInputStream(in, digest)) {
+            Files.copy(digestIn, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private Path filePath(String jobId, Format format) {
+        return Path.of(workDir, jobId + "." + format.name().toLowerCase(Locale.ROOT));
+    }
+
+    private String key(String jobId) {
+        return KEY_PREFIX + jobId;
+    }
+
+    private BulkImportProgress toProgress(String jobId, Map<Object, Object> state) {
+        BulkImportProgress progress = new BulkImportProgress();
+        progress.setJobId(jobId);
+        progress.setStatus((String) state.get("status"));
+        progress.setProcessedRows(parseLong(state.get("processedRows")));
+        progress.setImported(parseLong(state.get("imported")));
+        progress.setSkipped(parseLong(state.get("skipped")));
+        progress.setFailed(parseLong(state.get("failed")));
+        progress.setLastError((String) state.get("lastError"));
+        progress.setUpdatedAt((String) state.get("updatedAt"));
+        return progress;
+    }
+
+    private long parseLong(Object value) {
+        return value == null ? 0 : Long.parseLong((String) value);
+    }
+}
@@ -0,0 +1,171 @@
+package com.yoganavi.user.user.service.bulk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoganavi.user.user.dto.bulk.BulkImportRow;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 대량 가입 파일을 한 행씩 읽는 리더 (파일 전체를 메모리에 올리지 않음)
+ * <p>
+ * CSV는 첫 줄이 헤더(email,password,nickname,teacher)이고 큰따옴표로 감싼 값 안의 쉼표/따옴표("")를 허용한다. JSON은 행 객체의 배열이다.
+ */
+public abstract class UserImportReader implements Closeable {
+
+    public enum Format {
+        CSV,
+        JSON
+    }
+
+    /**
+     * 읽은 행
+     *
+     * @param index 1부터 시작하는 데이터 행 번호 (체크포인트 기준)
+     * @param row   읽은 값 (형식 오류면 null)
+     * @param error 형식 오류 내용
+     */
+    public record Entry(long index, BulkImportRow row, String error) {
+
+    }
+
+    protected long index;
+
+    public static UserImportReader open(InputStream in, Format format, ObjectMapper objectMapper)
+        throws IOException {
+        return format == Format.JSON ? new JsonReader(in, objectMapper) : new CsvReader(in);
+    }
+
+    /**
+     * 다음 행 읽기
+     *
+     * @return 다음 행, 끝이면 null
+     */
+    public abstract Entry next() throws IOException;
+
+    /**
+     * 재개 시 이미 처리한 행 건너뛰기
+     *
+     * @param rows 건너뛸 행 수
+     */
+    public void skip(long rows) throws IOException {
+        while (index < rows && next() != null) {
+            // 처리 완료된 행
+        }
+    }
+
+    static class CsvReader extends UserImportReader {
+
+        private final BufferedReader reader;
+
+        CsvReader(InputStream in) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String header = reader.readLine();
+            if (header == null || !header.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT)
+                .startsWith("email,password,nickname")) {
+                throw new IllegalArgumentException("CSV 헤더는 email,password,nickname,teacher 이어야 합니다.");
+            }
+        }
+
+        @Override
+        public Entry next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            index++;
+            List<String> fields = split(line);
+            if (fields.size() < 3) {
+                return new Entry(index, null, "필드 수 부족");
+            }
+            boolean teacher = fields.size() > 3 && Boolean.parseBoolean(fields.get(3).trim());
+            return new Entry(index,
+                new BulkImportRow(fields.get(0).trim(), fields.get(1), fields.get(2).trim(), teacher),
+                null);
+        }
+
+        static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    static class JsonReader extends UserImportReader {
+
+        private final JsonParser parser;
+        private final ObjectMapper objectMapper;
+
+        JsonReader(InputStream in, ObjectMapper objectMapper) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.getFactory().createParser(in);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON 파일은 사용자 객체의 배열이어야 합니다.");
+            }
+        }
+
+        @Override
+        public Entry next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+
+            index++;
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return new Entry(index, null, "객체가 아닌 항목");
+            }
+            try {
+                return new Entry(index, objectMapper.readValue(parser, BulkImportRow.class), null);
+            } catch (IOException e) {
+                // readValue 실패 시 파서 위치를 보장할 수 없으므로 파일 전체를 중단
+                throw new IOException(index + "번째 항목을 읽을 수 없습니다: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
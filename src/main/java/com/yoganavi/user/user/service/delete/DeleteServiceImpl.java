@@ -2,6 +2,7 @@ package com.yoganavi.user.user.service.delete;
 
 import com.yoganavi.user.common.entity.Users;
 import com.yoganavi.user.common.repository.UserRepository;
+import com.yoganavi.user.common.util.UserExistenceFilter;
 import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -21,6 +22,7 @@ public class DeleteServiceImpl implements DeleteService {
     private static final Duration DELETE_DELAY = Duration.ofDays(7);
 
     private final UserRepository userRepository;
+    private final UserExistenceFilter userExistenceFilter;
 
     @Override
     public void requestDeleteUser(Long userId) {
@@ -59,6 +61,8 @@ public class DeleteServiceImpl implements DeleteService {
         log.info("사용자 삭제 처리 시작: 사용자 ID {}", user.getUserId());
         user.setIsDeleted(true);
         userRepository.save(anonymizeUserData(user));
+        // 익명화된 닉네임도 사용 중인 값으로 등록
+        userExistenceFilter.add(user.getEmail(), user.getNickname());
         log.info("사용자 삭제 처리 완료: 사용자 ID {}", user.getUserId());
     }
 
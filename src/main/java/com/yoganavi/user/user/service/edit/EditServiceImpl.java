@@ -2,12 +2,14 @@ package com.yoganavi.user.user.service.edit;
 
 import com.yoganavi.user.common.entity.Users;
 import com.yoganavi.user.common.repository.UserRepository;
+import com.yoganavi.user.common.util.UserExistenceFilter;
 import com.yoganavi.user.user.dto.edit.UpdateDto;
 import com.yoganavi.user.user.service.email.EmailService;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -22,10 +24,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class EditServiceImpl implements EditService {
 
     private static final String PURPOSE = "비밀번호 변경";
+    private static final Pattern DELETED_EMAIL = Pattern.compile("deleted_\\d+@yoganavi\\.com");
 
     private final EmailService emailService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserExistenceFilter userExistenceFilter;
 
     @Override
     public String sendCredentialToken(String email) {
@@ -39,12 +43,12 @@ public class EditServiceImpl implements EditService {
         }
     }
 
-    @Transactional(readOnly = true, isolation = Isolation.SERIALIZABLE)
+    // 필터에 없으면 가입된 적 없는 이메일이므로 DB 조회 생략
     public int checkUser(String email) {
-        if (userRepository.findByEmail(email).isPresent()) {
+        if (userExistenceFilter.mightContainEmail(email) && userRepository.existsByEmail(email)) {
             return 1;
         }
-        if (email.matches("deleted_\\d+@yoganavi\\.com")) {
+        if (DELETED_EMAIL.matcher(email).matches()) {
             return 2;
         }
         return 0;
@@ -60,8 +64,12 @@ public class EditServiceImpl implements EditService {
     public Users setNewCredential(UpdateDto updateDto) {
         log.info("비밀번호 변경 시작: 이메일 {}", updateDto.getEmail());
 
+        // 인증 완료 상태를 먼저 소비해 같은 인증으로 동시에 두 번 처리되지 않도록
+        boolean verified = false;
+        boolean completed = false;
         try {
-            if (!emailService.isVerified(updateDto.getEmail(), PURPOSE)) {
+            verified = emailService.consumeVerification(updateDto.getEmail(), PURPOSE);
+            if (!verified) {
                 throw new IllegalStateException("이메일 인증이 완료되지 않았습니다.");
             }
 
@@ -72,9 +80,8 @@ public class EditServiceImpl implements EditService {
             user.setIsDeleted(false);
             Users saveMember = userRepository.save(user);
 
-            emailService.clearVerificationStatus(updateDto.getEmail(), PURPOSE);
-
             log.info("비밀번호 변경 완료: 사용자 ID {}", saveMember.getUserId());
+            completed = true;
             return saveMember;
 
         } catch (IllegalArgumentException | IllegalStateException e) {
@@ -86,6 +93,11 @@ public class EditServiceImpl implements EditService {
         } catch (Exception e) {
             log.error("비밀번호 변경 중 예기치 않은 오류 발생", e);
             throw new RuntimeException("비밀번호 변경 중 오류가 발생했습니다.");
+        } finally {
+            // 처리 실패 시 인증 상태 복구 (다시 인증하지 않고 재시도 가능)
+            if (verified && !completed) {
+                emailService.restoreVerification(updateDto.getEmail(), PURPOSE);
+            }
         }
     }
 
@@ -134,6 +146,9 @@ public class EditServiceImpl implements EditService {
             updateUserFields(user, updateDto, userId);
 
             Users updatedUser = userRepository.save(user);
+            if (updateDto.getNickname() != null && !updateDto.getNickname().isEmpty()) {
+                userExistenceFilter.add(null, updatedUser.getNickname());
+            }
             log.info("사용자 정보 업데이트 완료: 사용자 ID {}", userId);
             return updatedUser;
         } catch (IllegalArgumentException | IllegalStateException e) {
@@ -1,10 +1,12 @@
 package com.yoganavi.user.user.service.email;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import java.time.Duration;
 
@@ -15,9 +17,36 @@ public class EmailService {
 
     private static final Duration TOKEN_VALIDITY_DURATION = Duration.ofMinutes(5);
     private static final Duration VERIFICATION_VALIDITY_DURATION = Duration.ofMinutes(30);
-
-    private final JavaMailSender emailSender;
-    private final RedisTemplate<String, Object> redisTemplate;
+    // 인증번호 하나당 허용하는 오입력 횟수 (넘으면 인증번호 폐기)
+    private static final int MAX_FAILED_ATTEMPTS = 5;
+
+    // 인증번호 저장 + 이전 오입력 횟수 초기화
+    private static final RedisScript<Long> ISSUE = new DefaultRedisScript<>(
+        "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+            + "redis.call('DEL', KEYS[2]) "
+            + "return 1",
+        Long.class);
+
+    // 1: 인증 성공(인증번호 소비, 인증 완료 저장), 0: 인증번호 없음, -1: 불일치, -2: 오입력 한도 초과(인증번호 폐기)
+    private static final RedisScript<Long> VERIFY = new DefaultRedisScript<>(
+        "local stored = redis.call('GET', KEYS[1]) "
+            + "if not stored then return 0 end "
+            + "if stored == ARGV[1] then "
+            + "  redis.call('DEL', KEYS[1], KEYS[2]) "
+            + "  redis.call('SET', KEYS[3], '1', 'PX', ARGV[3]) "
+            + "  return 1 "
+            + "end "
+            + "local attempts = redis.call('INCR', KEYS[2]) "
+            + "if attempts == 1 then redis.call('PEXPIRE', KEYS[2], redis.call('PTTL', KEYS[1])) end "
+            + "if attempts >= tonumber(ARGV[2]) then "
+            + "  redis.call('DEL', KEYS[1], KEYS[2]) "
+            + "  return -2 "
+            + "end "
+            + "return -1",
+        Long.class);
+
+    private final MailOutboxService mailOutboxService;
+    private final RedisTemplate<String, String> redisTemplate;
 
     public String sendVerificationEmail(String email, String purpose) {
         log.info("{} 인증 토큰 전송 시작: {}", purpose, email);
@@ -25,24 +54,23 @@ public class EmailService {
         try {
 //            String token = generateToken();
             String token = "123456";
-            String redisKey = getRedisKey(email, purpose);
-
-            // 기존 토큰이 있다면 삭제
-            redisTemplate.delete(redisKey);
-
-            // redis에 토큰 저장
-            redisTemplate.opsForValue().set(
-                redisKey,
-                token,
-                TOKEN_VALIDITY_DURATION
-            );
+            // 기존 토큰을 덮어쓰고 오입력 횟수 초기화
+            redisTemplate.execute(ISSUE,
+                List.of(getRedisKey(email, purpose), getAttemptsKey(email, purpose)),
+                token, String.valueOf(TOKEN_VALIDITY_DURATION.toMillis()));
 
             String subject = String.format("모두의 음악 %s", purpose);
             String message = String.format("%s 인증번호 : %s\n이 인증번호는 5분 동안 유효합니다.", purpose, token);
 
-            sendSimpleMessage(email, subject, message);
+            // SMTP 전송은 발송 대기열에서 비동기로 처리
+            try {
+                mailOutboxService.enqueue(email, purpose, subject, message);
+            } catch (DataIntegrityViolationException e) {
+                // 동시 요청이 먼저 넣은 대기 중 메일을 이 내용으로 교체
+                mailOutboxService.enqueue(email, purpose, subject, message);
+            }
 
-            log.info("{} 인증 토큰 전송 완료: {}", purpose, email);
+            log.info("{} 인증 토큰 전송 요청 완료: {}", purpose, email);
             return "인증 번호 전송";
 
         } catch (Exception e) {
@@ -51,44 +79,43 @@ public class EmailService {
         }
     }
 
+    /**
+     * 인증번호 확인. 확인, 인증번호 소비, 인증 완료 저장을 한 번의 스크립트로 처리한다.
+     *
+     * @param email   이메일
+     * @param token   입력 인증번호
+     * @param purpose 인증 용도
+     * @return 인증 성공 여부
+     */
     public boolean validateToken(String email, String token, String purpose) {
         log.info("{}의 입력 인증번호: {}", email, token);
-        String redisKey = getRedisKey(email, purpose);
-        Object storedToken = redisTemplate.opsForValue().get(redisKey);
-
-        if (storedToken != null && token.equals(storedToken.toString())) {
-            // 유효성 검증 성공 시 토큰 삭제
-            redisTemplate.delete(redisKey);
-
-            // 인증 완료 상태 저장
-            String verifiedKey = getVerifiedKey(email, purpose);
-            redisTemplate.opsForValue().set(
-                verifiedKey,
-                true,
-                VERIFICATION_VALIDITY_DURATION
-            );
-            return true;
+        Long result = redisTemplate.execute(VERIFY,
+            List.of(getRedisKey(email, purpose), getAttemptsKey(email, purpose),
+                getVerifiedKey(email, purpose)),
+            token, String.valueOf(MAX_FAILED_ATTEMPTS),
+            String.valueOf(VERIFICATION_VALIDITY_DURATION.toMillis()));
+
+        if (result != null && result == -2) {
+            log.warn("{} 인증번호 오입력 한도 초과, 인증번호 폐기: {}", purpose, email);
         }
-        return false;
+        return result != null && result == 1;
     }
 
-    public boolean isVerified(String email, String purpose) {
-        String verifiedKey = getVerifiedKey(email, purpose);
-        Boolean isVerified = (Boolean) redisTemplate.opsForValue().get(verifiedKey);
-        return isVerified != null && isVerified;
+    /**
+     * 인증 완료 상태를 확인하고 소비 (GETDEL 한 번으로 처리, 같은 인증으로 두 번 처리되지 않음)
+     *
+     * @param email   이메일
+     * @param purpose 인증 용도
+     * @return 인증 완료 상태였으면 true
+     */
+    public boolean consumeVerification(String email, String purpose) {
+        return redisTemplate.opsForValue().getAndDelete(getVerifiedKey(email, purpose)) != null;
     }
 
-    public void clearVerificationStatus(String email, String purpose) {
-        String verifiedKey = getVerifiedKey(email, purpose);
-        redisTemplate.delete(verifiedKey);
-    }
-
-    private void sendSimpleMessage(String to, String subject, String text) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(text);
-        emailSender.send(message);
+    // 인증을 소비한 뒤 처리에 실패하면 다시 인증하지 않고 재시도할 수 있도록 복구
+    public void restoreVerification(String email, String purpose) {
+        redisTemplate.opsForValue().set(getVerifiedKey(email, purpose), "1",
+            VERIFICATION_VALIDITY_DURATION);
     }
 
     private String generateToken() {
@@ -102,4 +129,8 @@ public class EmailService {
     private String getVerifiedKey(String email, String purpose) {
         return String.format("%s:verified:%s", purpose, email);
     }
+
+    private String getAttemptsKey(String email, String purpose) {
+        return String.format("%s:attempts:%s", purpose, email);
+    }
 }
\ No newline at end of file
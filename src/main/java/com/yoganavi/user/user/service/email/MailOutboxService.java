@@ -0,0 +1,154 @@
+package com.yoganavi.user.user.service.email;
+
+import com.yoganavi.user.common.entity.MailOutbox;
+import com.yoganavi.user.common.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메일 발송 대기열 관리
+ * <p>
+ * 요청 처리 중에는 대기열에 넣기만 하고, 실제 전송은 {@link MailOutboxWorker}가 한다. 아직 발송되지 않은 같은 수신자/용도의 메일이 있으면 새로 넣지 않고
+ * 최신 내용으로 교체해 재전송 요청이 몰려도 메일은 한 통만 나간다. 동시에 처음 요청된 경우에는 unique 제약으로 한쪽이 실패하므로 호출한 쪽에서
+ * 다시 요청하면 먼저 들어간 메일이 교체된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 전송을 가져간 뒤 결과가 기록되지 않으면(노드 장애 등) 이 시간 뒤 다시 전송
+    @Value("${mail.outbox.lease:60000}")
+    private long lease;
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.backoff-base:5000}")
+    private long backoffBase;
+
+    @Value("${mail.outbox.backoff-max:600000}")
+    private long backoffMax;
+
+    private Counter enqueuedCounter;
+    private Counter deduplicatedCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void init() {
+        this.enqueuedCounter = outboxCounter("enqueued");
+        this.deduplicatedCounter = outboxCounter("deduplicated");
+        this.retriedCounter = outboxCounter("retried");
+        this.failedCounter = outboxCounter("failed");
+    }
+
+    /**
+     * 메일을 대기열에 넣거나 대기 중인 같은 메일을 교체
+     *
+     * @throws DataIntegrityViolationException 같은 메일이 동시에 먼저 들어감 (다시 호출하면 교체)
+     */
+    @Transactional
+    public void enqueue(String recipient, String purpose, String subject, String body) {
+        Optional<MailOutbox> pending = mailOutboxRepository
+            .findFirstByRecipientAndPurposeAndStatus(recipient, purpose, MailOutbox.PENDING);
+        if (pending.isPresent()) {
+            pending.get().replace(subject, body);
+            deduplicatedCounter.increment();
+            log.info("{} 메일 재요청, 대기 중인 메일 교체: {}", purpose, recipient);
+            return;
+        }
+        mailOutboxRepository.save(MailOutbox.pending(recipient, purpose, subject, body));
+        enqueuedCounter.increment();
+    }
+
+    /**
+     * 전송할 메일을 가져가고 임대 시간 동안 다른 노드가 가져가지 못하게 표시
+     *
+     * @param limit 최대 개수
+     * @return 가져간 메일
+     */
+    @Transactional
+    public List<MailOutbox> claim(int limit) {
+        Instant now = Instant.now();
+        List<MailOutbox> due = mailOutboxRepository.findDueForUpdate(now,
+            PageRequest.of(0, limit));
+        for (MailOutbox mail : due) {
+            mail.setAttempts(mail.getAttempts() + 1);
+            mail.setNextAttemptAt(now.plusMillis(lease));
+            mail.setLeasedUntil(now.plusMillis(lease));
+        }
+        return due;
+    }
+
+    @Transactional
+    public boolean markSent(MailOutbox mail) {
+        Instant now = Instant.now();
+        if (mailOutboxRepository.markSent(mail.getId(), mail.getRevision(), now) > 0) {
+            return true;
+        }
+        // 전송 중 재요청으로 내용이 바뀜: 보낸 메일은 버리고 새 내용으로 바로 다시 전송
+        if (mailOutboxRepository.releaseChanged(mail.getId(), mail.getRevision(), now) > 0) {
+            log.info("{} 메일 전송 중 내용 변경, 새 내용으로 재전송: {}", mail.getPurpose(),
+                mail.getRecipient());
+        }
+        return false;
+    }
+
+    /**
+     * 전송 실패 처리. 최대 시도 횟수 전까지는 지수 백오프로 다시 전송한다.
+     *
+     * @param mail  전송한 메일
+     * @param error 실패 원인
+     */
+    @Transactional
+    public void markFailed(MailOutbox mail, String error) {
+        mailOutboxRepository.findById(mail.getId())
+            .filter(current -> MailOutbox.PENDING.equals(current.getStatus()))
+            .ifPresent(current -> {
+                current.setLeasedUntil(null);
+                current.setLastError(error != null && error.length() > 500
+                    ? error.substring(0, 500) : error);
+                // 전송 중 내용이 바뀐 메일은 새 내용으로 바로 다시 전송
+                if (current.getRevision() != mail.getRevision()) {
+                    current.setNextAttemptAt(Instant.now());
+                    return;
+                }
+                if (current.getAttempts() >= maxAttempts) {
+                    current.setStatus(MailOutbox.FAILED);
+                    current.setPending(null);
+                    failedCounter.increment();
+                    log.error("{} 메일 전송 최종 실패: {}, {}", current.getPurpose(),
+                        current.getRecipient(), error);
+                    return;
+                }
+                long backoff = Math.min(backoffMax,
+                    backoffBase * (1L << Math.min(current.getAttempts() - 1, 20)));
+                current.setNextAttemptAt(Instant.now().plusMillis(backoff));
+                retriedCounter.increment();
+                log.warn("{} 메일 전송 실패, {}ms 후 재시도: {}", current.getPurpose(), backoff,
+                    current.getRecipient());
+            });
+    }
+
+    private Counter outboxCounter(String result) {
+        return Counter.builder("mail.outbox")
+            .description("메일 발송 대기열 처리 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
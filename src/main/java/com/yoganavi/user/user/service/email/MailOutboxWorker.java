@@ -0,0 +1,145 @@
+package com.yoganavi.user.user.service.email;
+
+import com.yoganavi.user.common.entity.MailOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메일 발송 대기열 처리
+ * <p>
+ * 주기적으로 전송할 메일을 가져와 batch-size 단위로 나누고, workers개의 스레드가 배치마다 SMTP 연결 하나로 여러 통을 보낸다. 실패한 메일만 골라
+ * 백오프 후 다시 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxWorker {
+
+    private final MailOutboxService mailOutboxService;
+    private final JavaMailSender emailSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mail.outbox.workers:4}")
+    private int workers;
+
+    @Value("${mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    private ExecutorService executor;
+    private Timer batchTimer;
+    private Timer deliveryDelayTimer;
+    private Counter sentCounter;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.batchTimer = Timer.builder("mail.outbox.batch")
+            .description("SMTP 배치 전송 시간")
+            .register(meterRegistry);
+        this.deliveryDelayTimer = Timer.builder("mail.outbox.delay")
+            .description("메일 요청부터 전송 완료까지 걸린 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.sentCounter = Counter.builder("mail.outbox")
+            .description("메일 발송 대기열 처리 결과")
+            .tag("result", "sent")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval:1000}")
+    public void drain() {
+        List<MailOutbox> claimed = mailOutboxService.claim(workers * batchSize);
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += batchSize) {
+            List<MailOutbox> batch = claimed.subList(from,
+                Math.min(from + batchSize, claimed.size()));
+            batches.add(CompletableFuture.runAsync(() -> sendBatch(batch), executor));
+        }
+        CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+    }
+
+    void sendBatch(List<MailOutbox> batch) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            messages[i] = toMessage(batch.get(i));
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        Exception batchFailure = null;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            emailSender.send(messages);
+        } catch (MailSendException e) {
+            // 배치 중 실패한 메시지만 골라서 재시도
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                batchFailure = e;
+            }
+        } catch (MailException e) {
+            batchFailure = e;
+        } finally {
+            sample.stop(batchTimer);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            MailOutbox mail = batch.get(i);
+            Exception failure = batchFailure != null ? batchFailure : failures.get(messages[i]);
+            try {
+                if (failure != null) {
+                    mailOutboxService.markFailed(mail, failure.getMessage());
+                } else if (mailOutboxService.markSent(mail)) {
+                    sentCounter.increment();
+                    deliveryDelayTimer.record(
+                        Duration.between(mail.getCreatedAt(), Instant.now()));
+                }
+            } catch (Exception e) {
+                // 결과 기록 실패 시 임대 만료 후 다시 전송됨
+                log.error("메일 전송 결과 기록 실패: {}", mail.getId(), e);
+            }
+        }
+    }
+
+    private SimpleMailMessage toMessage(MailOutbox mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(mail.getRecipient());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getBody());
+        return message;
+    }
+}
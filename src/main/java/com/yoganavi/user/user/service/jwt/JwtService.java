@@ -1,6 +1,12 @@
 package com.yoganavi.user.user.service.jwt;
 
+import com.yoganavi.user.user.dto.jwt.IntrospectResponseDto;
+import com.yoganavi.user.user.dto.jwt.TokenResponseDto;
+import java.util.List;
+
 public interface JwtService {
 
-    String reIssueRefreshToken(String accessToken, String refreshToken);
+    TokenResponseDto reIssueRefreshToken(String accessToken, String refreshToken);
+
+    List<IntrospectResponseDto> introspect(List<String> tokens);
 }
@@ -3,9 +3,15 @@ package com.yoganavi.user.user.service.jwt;
 import com.yoganavi.user.common.entity.Users;
 import com.yoganavi.user.common.repository.UserRepository;
 import com.yoganavi.user.common.util.JwtUtil;
+import com.yoganavi.user.common.util.JwtUtil.RefreshToken;
+import com.yoganavi.user.common.util.JwtUtil.TokenCheck;
+import com.yoganavi.user.common.util.JwtUtil.TokenStatus;
+import com.yoganavi.user.user.dto.jwt.IntrospectResponseDto;
+import com.yoganavi.user.user.dto.jwt.TokenResponseDto;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import java.util.List;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,7 +26,7 @@ public class JwtServiceImpl implements JwtService {
     private final UserRepository userRepository;
 
     @Override
-    public String reIssueRefreshToken(String accessToken, String refreshToken) {
+    public TokenResponseDto reIssueRefreshToken(String accessToken, String refreshToken) {
         log.debug("토큰 재발급 시작 - Access Token: {}, Refresh Token: {}", accessToken, refreshToken);
 
         try {
@@ -30,11 +36,11 @@ public class JwtServiceImpl implements JwtService {
                 throw new JwtException("토큰이 존재하지 않습니다.");
             }
 
-            // Access Token에서 이메일 추출
+            // Access Token에서 이메일 추출 (만료된 토큰이어야 하므로 예외의 클레임 사용)
             String token = jwtUtil.extractToken(accessToken);
             String originalEmail;
             try {
-                Claims expiredClaims = jwtUtil.validateToken(token);
+                jwtUtil.validateToken(token);
                 throw new JwtException("액세스 토큰이 아직 유효합니다.");
             } catch (ExpiredJwtException e) {
                 originalEmail = e.getClaims().get("email", String.class);
@@ -42,20 +48,10 @@ public class JwtServiceImpl implements JwtService {
             }
 
             // RefreshToken 검증 및 이메일 추출
-            String refreshEmail;
             Claims refreshClaims;
             try {
                 log.debug("리프레시 토큰 검증 시작");
-                refreshClaims = jwtUtil.validateToken(refreshToken);
-                refreshEmail = refreshClaims.get("email", String.class);
-                log.debug("리프레시 토큰 검증 성공. 이메일: {}", refreshEmail);
-
-                // refreshToken 검증
-//                if (!jwtUtil.validateRefreshToken(refreshToken, refreshEmail)) {
-//                    throw new JwtException("Redis에 저장된 리프레시 토큰과 일치하지 않습니다.");
-//                }
-                log.debug("Redis의 리프레시 토큰 검증 성공");
-
+                refreshClaims = jwtUtil.validateToken(jwtUtil.extractToken(refreshToken));
             } catch (ExpiredJwtException e) {
                 log.error("리프레시 토큰 만료됨");
                 throw new JwtException("리프레시 토큰이 만료되었습니다.");
@@ -63,6 +59,8 @@ public class JwtServiceImpl implements JwtService {
                 log.error("리프레시 토큰 검증 실패: {}", e.getMessage());
                 throw e;
             }
+            String refreshEmail = refreshClaims.get("email", String.class);
+            log.debug("리프레시 토큰 검증 성공. 이메일: {}", refreshEmail);
 
             // 이메일 일치 여부 확인
             if (!refreshEmail.equals(originalEmail)) {
@@ -75,22 +73,23 @@ public class JwtServiceImpl implements JwtService {
                 throw new JwtException("사용자를 찾을 수 없습니다.");
             }
 
-            // 새로운 AccessToken 발급
-            boolean isOAuth;
-            try {
-                Claims expiredClaims = jwtUtil.validateToken(token);
-                isOAuth = expiredClaims.get("isOAuth", Boolean.class);
-            } catch (ExpiredJwtException e) {
-                isOAuth = e.getClaims().get("isOAuth", Boolean.class);
-            }
+            // Redis의 토큰 패밀리와 대조 후 리프레시 토큰 교체 (재사용 시 패밀리 폐기)
+            RefreshToken newRefreshToken = jwtUtil.rotateRefreshToken(refreshClaims);
+            log.debug("리프레시 토큰 교체 성공");
 
+            // 새로운 AccessToken 발급
             String newAccessToken = jwtUtil.generateAccessToken(
+                user.get().getUserId(),
                 refreshEmail,
-                user.get().getRole()
+                user.get().getRole(),
+                newRefreshToken.familyId()
             );
 
             log.info("액세스 토큰 재발급 성공");
-            return newAccessToken;
+            return TokenResponseDto.builder()
+                .accessToken(newAccessToken)
+                .refreshToken(newRefreshToken.token())
+                .build();
 
         } catch (JwtException e) {
             log.error("토큰 재발급 실패 - {}", e.getMessage());
@@ -100,4 +99,31 @@ public class JwtServiceImpl implements JwtService {
             throw new JwtException("토큰 재발급 중 오류가 발생했습니다.");
         }
     }
+
+    @Override
+    public List<IntrospectResponseDto> introspect(List<String> tokens) {
+        List<String> rawTokens = tokens.stream()
+            .map(jwtUtil::extractToken)
+            .toList();
+
+        return jwtUtil.checkTokens(rawTokens).stream()
+            .map(this::toIntrospectResponse)
+            .toList();
+    }
+
+    private IntrospectResponseDto toIntrospectResponse(TokenCheck check) {
+        if (check.getStatus() != TokenStatus.VALID) {
+            return IntrospectResponseDto.builder()
+                .status(check.getStatus().name())
+                .build();
+        }
+
+        Claims claims = check.getClaims();
+        return IntrospectResponseDto.builder()
+            .status(check.getStatus().name())
+            .email(claims.get("email", String.class))
+            .role(claims.get("role", String.class))
+            .userId(claims.get("uid", Long.class))
+            .build();
+    }
 }
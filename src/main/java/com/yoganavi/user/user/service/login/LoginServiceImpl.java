@@ -1,13 +1,14 @@
 package com.yoganavi.user.user.service.login;
 
-import com.yoganavi.user.common.entity.Users;
+import com.yoganavi.user.common.repository.UserCredential;
 import com.yoganavi.user.common.repository.UserRepository;
 import com.yoganavi.user.common.util.JwtUtil;
+import com.yoganavi.user.common.util.JwtUtil.RefreshToken;
+import com.yoganavi.user.common.util.PasswordHashingExecutor;
 import com.yoganavi.user.user.dto.login.LoginRequestDto;
 import com.yoganavi.user.user.dto.login.LoginResponseDto;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -15,101 +16,114 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
 
+// 트랜잭션은 리포지토리 호출 단위로만 사용 (비밀번호 해시 중 DB 커넥션을 붙잡지 않도록)
 @Slf4j
 @Service
 @AllArgsConstructor
-@Transactional
 public class LoginServiceImpl implements LoginService {
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     public LoginResponseDto login(LoginRequestDto loginRequestDto) {
         String email = loginRequestDto.getEmail();
         String password = loginRequestDto.getPassword();
 
-        // 사용자 정보 조회
-        Users user = userRepository.findByEmail(email)
+        // 인증 정보 조회 (필요한 컬럼만, 읽기 전용)
+        UserCredential user = userRepository.findCredentialByEmail(email)
             .orElseThrow(() -> {
                 log.warn("존재하지 않는 사용자로 로그인 시도: {}", email);
                 return new BadCredentialsException("사용자가 존재하지 않습니다.");
             });
 
         // 삭제된 계정 체크
-        if (user.getIsDeleted()) {
+        if (user.isDeleted()) {
             log.warn("삭제된 계정으로 로그인 시도: {}", email);
             throw new BadCredentialsException("계정이 삭제되었습니다.");
         }
 
-        // 탈퇴 진행 중인 사용자 확인 및 처리
-        if (user.getDeletedAt() != null) {
-            if (passwordEncoder.matches(password, user.getPwd())) {
-                if (!recoverAccount(user)) {
-                    throw new RuntimeException("사용자 계정 복구 실패");
-                }
-                log.info("사용자 {} 계정 복구됨.", email);
-            } else {
+        // 비밀번호 검증 (해시 전용 스레드에서 수행, 계정 복구 시에도 한 번만)
+        if (!passwordHashingExecutor.matches(password, user.pwd())) {
+            if (user.deletedAt() != null) {
                 log.warn("탈퇴 진행 중인 계정 비밀번호 불일치: {}", email);
-                throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
+            } else {
+                log.warn("비밀번호 불일치: {}", email);
             }
+            throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
         }
 
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(password, user.getPwd())) {
-            log.warn("비밀번호 불일치: {}", email);
-            throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
+        // 저장된 해시의 cost가 현재 설정과 다르면 다시 해시
+        upgradePasswordIfNeeded(user, password);
+
+        // 탈퇴 진행 중인 사용자 확인 및 처리
+        if (user.deletedAt() != null) {
+            if (!recoverAccount(user.userId())) {
+                throw new RuntimeException("사용자 계정 복구 실패");
+            }
+            log.info("사용자 {} 계정 복구됨.", email);
         }
 
         // 인증 객체 생성 및 설정
-        List<GrantedAuthority> authorities = getGrantedAuthorities(user.getRole());
+        List<GrantedAuthority> authorities = getGrantedAuthorities(user.role());
         UsernamePasswordAuthenticationToken authentication =
             new UsernamePasswordAuthenticationToken(email, null, authorities);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // JWT 토큰 생성
+        // JWT 토큰 생성 (로그인마다 새 세션 = 리프레시 토큰 패밀리)
+        RefreshToken refreshToken = jwtUtil.generateRefreshToken(user.email());
         String accessToken = jwtUtil.generateAccessToken(
-            user.getEmail(),
-            user.getRole()
+            user.userId(),
+            user.email(),
+            user.role(),
+            refreshToken.familyId()
         );
-        String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
 
         log.info("사용자 로그인 성공: {}", email);
 
         return LoginResponseDto.builder()
             .accessToken(accessToken)
-            .refreshToken(refreshToken)
+            .refreshToken(refreshToken.token())
             .message("로그인 성공")
             .build();
     }
 
     /**
-     * 사용자 계정 복구
+     * 로그인에 성공한 평문 비밀번호로 해시 재생성. 실패해도 로그인은 계속 진행하고 다음 로그인 때 다시 시도한다.
+     *
+     * @param user        로그인한 사용자
+     * @param rawPassword 검증이 끝난 평문 비밀번호
+     */
+    private void upgradePasswordIfNeeded(UserCredential user, String rawPassword) {
+        if (!passwordHashingExecutor.upgradeEncoding(user.pwd())) {
+            return;
+        }
+        try {
+            String newHash = passwordHashingExecutor.encode(rawPassword);
+            userRepository.updatePassword(user.userId(), newHash);
+            log.info("비밀번호 해시 갱신: 사용자 ID {}", user.userId());
+        } catch (Exception e) {
+            log.warn("비밀번호 해시 갱신 실패: 사용자 ID {}, {}", user.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 계정 복구 (탈퇴 진행 중인 계정만 한 번의 UPDATE로 복구)
      *
-     * @param user 복구할 사용자 엔티티
+     * @param userId 복구할 사용자 ID
      */
-    @Transactional(isolation = Isolation.SERIALIZABLE)
     @Override
-    public boolean recoverAccount(Users user) {
+    public boolean recoverAccount(Long userId) {
 
-        if (user == null) {
+        if (userId == null) {
             return false;
         }
 
-        Optional<Users> recoveredUsers = userRepository.findById(user.getUserId());
-        if (recoveredUsers.isPresent()) {
-            log.info("계정 복구 시작: 사용자 ID {}", user.getUserId());
-            Users recoveredUser = recoveredUsers.get();
-            recoveredUser.setDeletedAt(null);
-            recoveredUser.setIsDeleted(false);
-            userRepository.save(recoveredUser);
-            log.info("사용자 계정 복구 성공. 사용자 ID: {}, 이메일: {}", recoveredUser.getUserId(),
-                recoveredUser.getEmail());
+        log.info("계정 복구 시작: 사용자 ID {}", userId);
+        if (userRepository.restoreDeletedUser(userId) > 0) {
+            log.info("사용자 계정 복구 성공. 사용자 ID: {}", userId);
             return true;
         } else {
             return false;
@@ -123,7 +137,7 @@ public class LoginServiceImpl implements LoginService {
      * @param role 사용자 역할
      * @return 사용자 권한
      */
-    private List<GrantedAuthority> getGrantedAuthorities(String role) {
+    static List<GrantedAuthority> getGrantedAuthorities(String role) {
         List<GrantedAuthority> grantedAuthorities = new ArrayList<>();
         grantedAuthorities.add(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
         return grantedAuthorities;
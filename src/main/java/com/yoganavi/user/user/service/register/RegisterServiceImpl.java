@@ -3,8 +3,10 @@ package com.yoganavi.user.user.service.register;
 import com.yoganavi.kafka.service.KafkaProducerService;
 import com.yoganavi.user.common.entity.Users;
 import com.yoganavi.user.common.repository.UserRepository;
+import com.yoganavi.user.common.util.UserExistenceFilter;
 import com.yoganavi.user.user.dto.register.RegisterDto;
 import com.yoganavi.user.user.service.email.EmailService;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -19,11 +21,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class RegisterServiceImpl implements RegisterService {
 
     private static final String PURPOSE = "회원가입";
+    private static final Pattern DELETED_EMAIL = Pattern.compile("deleted_\\d+@yoganavi\\.com");
 
     private final EmailService emailService;
     private final KafkaProducerService kafkaEventService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserExistenceFilter userExistenceFilter;
 
     @Override
     public String sendEmailToken(String email) {
@@ -37,12 +41,12 @@ public class RegisterServiceImpl implements RegisterService {
         }
     }
 
-    @Transactional(readOnly = true, isolation = Isolation.SERIALIZABLE)
+    // 필터에 없으면 가입된 적 없는 이메일이므로 DB 조회 생략
     public int checkUser(String email) {
-        if (userRepository.findByEmail(email).isPresent()) {
+        if (userExistenceFilter.mightContainEmail(email) && userRepository.existsByEmail(email)) {
             return 1;
         }
-        if (email.matches("deleted_\\d+@yoganavi\\.com")) {
+        if (DELETED_EMAIL.matcher(email).matches()) {
             return 2;
         }
         return 0;
@@ -58,11 +62,21 @@ public class RegisterServiceImpl implements RegisterService {
     public Users registerUser(RegisterDto registerDto) {
         log.info("사용자 등록 시작: 이메일 {}", registerDto.getEmail());
 
+        // 인증 완료 상태를 먼저 소비해 같은 인증으로 동시에 두 번 처리되지 않도록
+        boolean verified = false;
+        boolean completed = false;
         try {
-            if (!emailService.isVerified(registerDto.getEmail(), PURPOSE)) {
+            verified = emailService.consumeVerification(registerDto.getEmail(), PURPOSE);
+            if (!verified) {
                 throw new IllegalStateException("이메일 인증이 완료되지 않았습니다.");
             }
 
+            // 비밀번호 해시 전에 닉네임 중복을 먼저 걸러냄 (최종 판정은 unique 제약)
+            if (userExistenceFilter.mightContainNickname(registerDto.getNickname())
+                && userRepository.existsByNickname(registerDto.getNickname())) {
+                throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
+            }
+
             String hashPwd = passwordEncoder.encode(registerDto.getPassword());
             Users user = new Users();
             user.setEmail(registerDto.getEmail());
@@ -70,14 +84,16 @@ public class RegisterServiceImpl implements RegisterService {
             user.setNickname(registerDto.getNickname());
             user.setIsDeleted(false);
             user.setRole(registerDto.isTeacher() ? "TEACHER" : "STUDENT");
-            Users saveMember = userRepository.save(user);
-
-            emailService.clearVerificationStatus(registerDto.getEmail(), PURPOSE);
+            // ID를 미리 할당하므로 save만으로는 INSERT가 커밋 시점까지 미뤄짐
+            // 중복 이메일/닉네임 제약 위반을 여기서 받아 처리하도록 바로 반영
+            Users saveMember = userRepository.saveAndFlush(user);
+            userExistenceFilter.add(saveMember.getEmail(), saveMember.getNickname());
 
             log.info("사용자 등록 완료: 사용자 ID {}", saveMember.getUserId());
 
             kafkaEventService.publishUserCreatedEvent(saveMember);
 
+            completed = true;
             return saveMember;
 
         } catch (IllegalArgumentException | IllegalStateException e) {
@@ -89,6 +105,11 @@ public class RegisterServiceImpl implements RegisterService {
         } catch (Exception e) {
             log.error("회원가입 처리 중 예기치 않은 오류 발생", e);
             throw new RuntimeException("회원가입 처리 중 오류가 발생했습니다.");
+        } finally {
+            // 처리 실패 시 인증 상태 복구 (다시 인증하지 않고 재시도 가능)
+            if (verified && !completed) {
+                emailService.restoreVerification(registerDto.getEmail(), PURPOSE);
+            }
         }
     }
 }
\ No newline at end of file
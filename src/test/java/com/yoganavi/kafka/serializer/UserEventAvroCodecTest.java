@@ -0,0 +1,121 @@
+package com.yoganavi.kafka.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.yoganavi.kafka.event.UserEvent;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+class UserEventAvroCodecTest {
+
+    private final UserEventAvroCodec codec = new UserEventAvroCodec(
+        new AvroSchemaRegistry("avro/registry.properties"));
+
+    @Test
+    @DisplayName("Avro로 변환한 이벤트를 같은 값으로 복원")
+    void Avro_변환_복원() {
+        // given
+        UserEvent event = event();
+
+        // when
+        byte[] data = codec.encode(event);
+
+        // then
+        assertThat(UserEventAvroCodec.isAvro(data)).isTrue();
+        assertThat(codec.decode(data)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("이전 스키마로 쓴 메시지를 새 스키마로 읽음")
+    void 이전_스키마_메시지_읽기() {
+        // given
+        UserEventAvroCodec newer = new UserEventAvroCodec(
+            new AvroSchemaRegistry("avro-test/registry.properties"));
+        UserEvent event = event();
+
+        // when
+        UserEvent decoded = newer.decode(codec.encode(event));
+
+        // then
+        assertThat(decoded).isEqualTo(event);
+        // 새 스키마가 등록되지 않은 쪽은 읽지 못함 (색인 먼저 배포)
+        assertThatThrownBy(() -> codec.decode(newer.encode(event)))
+            .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("Avro 토픽이 아니면 JSON으로 보내고 역직렬화는 두 형식 모두 처리")
+    void 토픽별_형식_선택() {
+        // given
+        UserEventSerializer serializer = new UserEventSerializer(codec, Set.of("user-updated"));
+        serializer.configure(Map.of(), false);
+        UserEventDeserializer deserializer = new UserEventDeserializer(codec,
+            new JsonDeserializer<>(UserEvent.class, false));
+        UserEvent event = event();
+
+        // when
+        byte[] avro = serializer.serialize("user-updated", new RecordHeaders(), event);
+        byte[] json = serializer.serialize("user-created", new RecordHeaders(), event);
+
+        // then
+        assertThat(UserEventAvroCodec.isAvro(avro)).isTrue();
+        assertThat(json[0]).isEqualTo((byte) '{');
+        assertThat(avro.length).isLessThan(json.length);
+        assertThat(deserializer.deserialize("user-updated", new RecordHeaders(), avro))
+            .isEqualTo(event);
+        assertThat(deserializer.deserialize("user-created", new RecordHeaders(), json))
+            .isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Avro 메시지는 헤더를 포함해도 JSON 메시지보다 작음")
+    void 메시지_크기_비교() {
+        // given
+        UserEventSerializer serializer = new UserEventSerializer(codec, Set.of("user-updated"));
+        serializer.configure(Map.of(), false);
+        RecordHeaders avroHeaders = new RecordHeaders();
+        RecordHeaders jsonHeaders = new RecordHeaders();
+        UserEvent event = event();
+
+        // when
+        int avro = serializer.serialize("user-updated", avroHeaders, event).length
+            + headerBytes(avroHeaders);
+        int json = serializer.serialize("user-created", jsonHeaders, event).length
+            + headerBytes(jsonHeaders);
+
+        // then: JSON은 타입 헤더(__TypeId__)가 붙고, Avro는 값 앞 스키마 ID만 붙음
+        assertThat(headerBytes(jsonHeaders)).isPositive();
+        assertThat(avro).isLessThan(json);
+    }
+
+    private int headerBytes(RecordHeaders headers) {
+        int bytes = 0;
+        for (Header header : headers) {
+            bytes += header.key().length() + header.value().length;
+        }
+        return bytes;
+    }
+
+    private UserEvent event() {
+        return UserEvent.builder()
+            .transactionId("b1f7a0f2-5d0c-4f0e-9a57-0d0f6f1a2c3d")
+            .userId(42L)
+            .email("user42@example.com")
+            .nickname("요가초보")
+            .profileImageUrl("https://example.com/profile/42.jpg")
+            .role("STUDENT")
+            .eventType(UserEvent.EventType.UPDATED)
+            .isDeleted(false)
+            .status(UserEvent.EventStatus.STARTED)
+            .timestamp(LocalDateTime.of(2024, 11, 3, 9, 15, 30, 123456000))
+            .build();
+    }
+}
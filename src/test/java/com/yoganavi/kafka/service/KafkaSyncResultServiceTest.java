@@ -0,0 +1,139 @@
+package com.yoganavi.kafka.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yoganavi.kafka.entity.UserEventLog;
+import com.yoganavi.kafka.event.UserEvent;
+import com.yoganavi.kafka.event.UserEvent.EventStatus;
+import com.yoganavi.kafka.repository.UserEventLogRepository;
+import com.yoganavi.user.common.repository.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaSyncResultServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserEventLogRepository eventLogRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private KeyOrderedExecutor keyOrderedExecutor;
+    private KafkaSyncResultService service;
+
+    @BeforeEach
+    void setUp() {
+        keyOrderedExecutor = new KeyOrderedExecutor();
+        ReflectionTestUtils.setField(keyOrderedExecutor, "parallelism", 4);
+        keyOrderedExecutor.init();
+        service = new KafkaSyncResultService(userRepository, eventLogRepository,
+            transactionManager, keyOrderedExecutor);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyOrderedExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("FAILED 결과만 모아 한 번에 삭제하고 보상 로그를 일괄 저장")
+    @SuppressWarnings("unchecked")
+    void 실패_결과_일괄_보상() {
+        // given
+        List<UserEvent> events = List.of(result(1L, EventStatus.FAILED),
+            result(2L, EventStatus.COMPLETED), result(3L, EventStatus.FAILED));
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+
+        // when
+        service.handleUserSyncResults(events);
+
+        // then
+        verify(userRepository).deleteAllByIdInBatch(List.of(1L));
+        ArgumentCaptor<List<UserEventLog>> logs = ArgumentCaptor.forClass(List.class);
+        verify(eventLogRepository).saveAll(logs.capture());
+        assertThat(logs.getValue()).extracting(UserEventLog::getUserId).containsExactly(1L);
+        verify(userRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("일괄 보상 실패 시 한 건씩 처리하고 실패한 레코드 위치를 알림")
+    void 일괄_실패시_레코드_단위_처리() {
+        // given
+        List<UserEvent> events = List.of(result(1L, EventStatus.FAILED),
+            result(2L, EventStatus.COMPLETED), result(3L, EventStatus.FAILED));
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 3L));
+        doThrow(new DataIntegrityViolationException("FK 제약 위반"))
+            .when(userRepository).deleteAllByIdInBatch(anyList());
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.existsById(3L)).thenReturn(true);
+        doThrow(new IllegalStateException("삭제 실패")).when(userRepository).deleteById(3L);
+
+        // when & then
+        assertThatThrownBy(() -> service.handleUserSyncResults(events))
+            .isInstanceOf(BatchListenerFailedException.class)
+            .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex())
+                .isEqualTo(2));
+        verify(userRepository).deleteById(1L);
+    }
+
+    @Test
+    @DisplayName("이미 삭제된 사용자만 있으면 삭제와 보상 로그 없이 완료")
+    void 이미_삭제된_사용자() {
+        // given
+        List<UserEvent> events = List.of(result(1L, EventStatus.FAILED),
+            result(3L, EventStatus.FAILED));
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+
+        // when
+        service.handleUserSyncResults(events);
+
+        // then
+        verify(userRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(userRepository, never()).deleteById(any());
+        verify(eventLogRepository, never()).saveAll(anyList());
+        verify(eventLogRepository, never()).save(any(UserEventLog.class));
+    }
+
+    @Test
+    @DisplayName("FAILED 결과가 없으면 DB 조회 없음")
+    void 실패_결과_없음() {
+        // when
+        service.handleUserSyncResults(List.of(result(1L, EventStatus.COMPLETED)));
+
+        // then
+        verify(userRepository, never()).findExistingIds(anyCollection());
+    }
+
+    private UserEvent result(Long userId, EventStatus status) {
+        return UserEvent.builder()
+            .transactionId("tx-" + userId)
+            .userId(userId)
+            .eventType(UserEvent.EventType.CREATED)
+            .status(status)
+            .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.yoganavi.kafka.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yoganavi.kafka.service.KeyOrderedExecutor.Failure;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class KeyOrderedExecutorTest {
+
+    private KeyOrderedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyOrderedExecutor();
+        ReflectionTestUtils.setField(executor, "parallelism", 4);
+        executor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 키는 받은 순서대로, 다른 키는 병렬로 처리")
+    void 키별_순서_유지() {
+        // given
+        List<String> items = List.of("a1", "b1", "a2", "c1", "b2", "a3", "c2");
+        Map<Character, Queue<String>> processed = new ConcurrentHashMap<>();
+
+        // when
+        Failure failure = executor.process(items, item -> item.charAt(0), item ->
+            processed.computeIfAbsent(item.charAt(0), key -> new ConcurrentLinkedQueue<>())
+                .add(item));
+
+        // then
+        assertThat(failure).isNull();
+        assertThat(processed.get('a')).containsExactly("a1", "a2", "a3");
+        assertThat(processed.get('b')).containsExactly("b1", "b2");
+        assertThat(processed.get('c')).containsExactly("c1", "c2");
+    }
+
+    @Test
+    @DisplayName("가장 앞선 실패 위치를 반환하고 실패한 키의 뒤 레코드는 처리하지 않음")
+    void 앞선_실패_위치_반환() {
+        // given
+        List<String> items = List.of("a1", "b1", "a2", "b2", "a3");
+        Queue<String> processed = new ConcurrentLinkedQueue<>();
+
+        // when
+        Failure failure = executor.process(items, item -> item.charAt(0), item -> {
+            if (item.endsWith("2")) {
+                throw new IllegalStateException(item + " 처리 실패");
+            }
+            processed.add(item);
+        });
+
+        // then
+        assertThat(failure).isNotNull();
+        assertThat(failure.index()).isEqualTo(2);
+        assertThat(failure.cause()).hasMessage("a2 처리 실패");
+        assertThat(processed).containsExactlyInAnyOrder("a1", "b1");
+    }
+}
@@ -0,0 +1,195 @@
+package com.yoganavi.kafka.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.yoganavi.kafka.entity.UserEventOutbox;
+import com.yoganavi.kafka.event.UserEvent;
+import com.yoganavi.kafka.repository.UserEventOutboxRepository;
+import com.yoganavi.user.common.util.RedisLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaOperations.OperationsCallback;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class UserEventOutboxRelayTest {
+
+    private static final String LOCK_KEY = "user:outbox:relay:lock";
+    private static final String LOCK_TOKEN = "lock-token";
+
+    @Mock
+    private UserEventOutboxRepository userEventOutboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private RedisLock redisLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private UserEventOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new UserEventOutboxRelay(userEventOutboxRepository, kafkaTemplate, redisLock,
+            transactionManager, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "batchSize", 3);
+        ReflectionTestUtils.setField(relay, "lockTtl", 30000L);
+        ReflectionTestUtils.setField(relay, "backoffBase", 60000L);
+        ReflectionTestUtils.setField(relay, "backoffMax", 60000L);
+        relay.init();
+
+        lenient().when(redisLock.tryLock(eq(LOCK_KEY), any(Duration.class))).thenReturn(LOCK_TOKEN);
+        lenient().when(redisLock.extend(eq(LOCK_KEY), eq(LOCK_TOKEN), any(Duration.class)))
+            .thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("대기 중인 이벤트를 Kafka 트랜잭션 하나로 발행하고 완료 처리")
+    void 대기_이벤트_배치_발행() throws Exception {
+        // given
+        UserEventOutbox first = outbox(1L, 10L);
+        UserEventOutbox second = outbox(2L, 11L);
+        when(userEventOutboxRepository.findPendingForUpdate(any(Pageable.class)))
+            .thenReturn(List.of(first, second));
+        runKafkaTransaction();
+
+        // when
+        relay.drain();
+
+        // then
+        verify(kafkaTemplate, times(1)).executeInTransaction(any());
+        verify(kafkaTemplate).send(eq("user-created"), eq("10"), any(UserEvent.class));
+        verify(kafkaTemplate).send(eq("user-created"), eq("11"), any(UserEvent.class));
+        assertThat(first.getStatus()).isEqualTo(UserEventOutbox.SENT);
+        assertThat(second.getStatus()).isEqualTo(UserEventOutbox.SENT);
+        verify(redisLock).unlock(LOCK_KEY, LOCK_TOKEN);
+    }
+
+    @Test
+    @DisplayName("발행 중 잠금을 잃으면 다음 배치를 가져오지 않음")
+    void 잠금_만료시_중단() throws Exception {
+        // given
+        when(userEventOutboxRepository.findPendingForUpdate(any(Pageable.class)))
+            .thenReturn(List.of(outbox(1L, 10L), outbox(2L, 11L), outbox(3L, 12L)));
+        runKafkaTransaction();
+        when(redisLock.extend(eq(LOCK_KEY), eq(LOCK_TOKEN), any(Duration.class)))
+            .thenReturn(false);
+
+        // when
+        relay.drain();
+
+        // then
+        verify(userEventOutboxRepository, times(1)).findPendingForUpdate(any(Pageable.class));
+        verify(redisLock).unlock(LOCK_KEY, LOCK_TOKEN);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 잠금을 가지고 있으면 발행하지 않음")
+    void 잠금_획득_실패() {
+        // given
+        when(redisLock.tryLock(eq(LOCK_KEY), any(Duration.class))).thenReturn(null);
+
+        // when
+        relay.drain();
+
+        // then
+        verify(userEventOutboxRepository, never()).findPendingForUpdate(any(Pageable.class));
+        verify(redisLock, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Kafka 발행 실패 시 대기 상태로 두고 백오프 동안 다시 조회하지 않음")
+    void Kafka_실패시_재시도_대기() throws Exception {
+        // given
+        UserEventOutbox event = outbox(1L, 10L);
+        when(userEventOutboxRepository.findPendingForUpdate(any(Pageable.class)))
+            .thenReturn(List.of(event));
+        when(kafkaTemplate.executeInTransaction(any()))
+            .thenThrow(new KafkaException("브로커 연결 실패"));
+
+        // when
+        relay.drain();
+        relay.drain();
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(UserEventOutbox.PENDING);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getLastError()).contains("브로커 연결 실패");
+        verify(userEventOutboxRepository, times(1)).findPendingForUpdate(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("변환할 수 없는 이벤트는 실패 처리하고 나머지는 발행")
+    void 손상된_이벤트_건너뜀() throws Exception {
+        // given
+        UserEventOutbox broken = outbox(1L, 10L);
+        broken.setPayload("{broken");
+        UserEventOutbox valid = outbox(2L, 11L);
+        when(userEventOutboxRepository.findPendingForUpdate(any(Pageable.class)))
+            .thenReturn(List.of(broken, valid));
+        runKafkaTransaction();
+
+        // when
+        int relayed = relay.relayBatch();
+
+        // then
+        assertThat(relayed).isEqualTo(2);
+        assertThat(broken.getStatus()).isEqualTo(UserEventOutbox.FAILED);
+        assertThat(valid.getStatus()).isEqualTo(UserEventOutbox.SENT);
+        verify(kafkaTemplate, never()).send(anyString(), eq("10"), any());
+        verify(kafkaTemplate).send(eq("user-created"), eq("11"), any(UserEvent.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runKafkaTransaction() {
+        when(kafkaTemplate.executeInTransaction(any())).thenAnswer(invocation ->
+            ((OperationsCallback<String, Object, Object>) invocation.getArgument(0))
+                .doInOperations(kafkaTemplate));
+    }
+
+    private UserEventOutbox outbox(Long id, Long userId) throws Exception {
+        UserEvent event = UserEvent.builder()
+            .transactionId("tx-" + id)
+            .userId(userId)
+            .email("user" + userId + "@example.com")
+            .nickname("user" + userId)
+            .role("STUDENT")
+            .eventType(UserEvent.EventType.CREATED)
+            .status(UserEvent.EventStatus.STARTED)
+            .timestamp(LocalDateTime.now())
+            .build();
+        UserEventOutbox outbox = UserEventOutbox.pending("user-created", String.valueOf(userId),
+            objectMapper.writeValueAsString(event));
+        outbox.setId(id);
+        outbox.setCreatedAt(Instant.now());
+        return outbox;
+    }
+}
@@ -0,0 +1,86 @@
+package com.yoganavi.user.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ClientIpResolverTest {
+
+    private static final String GATEWAY = "10.0.0.5";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private ClientIpResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new ClientIpResolver();
+        ReflectionTestUtils.setField(resolver, "trustedProxies", List.of("10.0.0.0/8", "::1"));
+        resolver.init();
+    }
+
+    @Test
+    @DisplayName("같은 게이트웨이를 거친 두 클라이언트는 서로 다른 IP로 로그인 시도 제한")
+    void 게이트웨이_뒤_클라이언트별_제한() {
+        // given: Redis 제한은 통과한다고 보고 노드 로컬 IP 버킷만 확인
+        LoginThrottle throttle = new LoginThrottle(redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(throttle, "window", 60000L);
+        ReflectionTestUtils.setField(throttle, "emailLimit", 10);
+        ReflectionTestUtils.setField(throttle, "ipLimit", 1);
+        throttle.init();
+        String first = resolver.resolve(request(GATEWAY, "203.0.113.10"));
+        String second = resolver.resolve(request(GATEWAY, "198.51.100.20"));
+
+        // when
+        long firstAttempt = throttle.tryAcquire("a@example.com", first);
+        long firstRetry = throttle.tryAcquire("a@example.com", first);
+        long secondAttempt = throttle.tryAcquire("b@example.com", second);
+
+        // then
+        assertThat(first).isEqualTo("203.0.113.10");
+        assertThat(second).isEqualTo("198.51.100.20");
+        assertThat(firstAttempt).isZero();
+        assertThat(firstRetry).isPositive();
+        assertThat(secondAttempt).isZero();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 직접 넣은 X-Forwarded-For 값은 사용하지 않음")
+    void 위조된_헤더_무시() {
+        // when & then: 게이트웨이를 거쳤어도 왼쪽의 위조 값 대신 게이트웨이가 붙인 주소 사용
+        assertThat(resolver.resolve(request(GATEWAY, "1.2.3.4, 203.0.113.10")))
+            .isEqualTo("203.0.113.10");
+        // 게이트웨이를 거치지 않은 직접 연결은 헤더를 무시
+        assertThat(resolver.resolve(request("203.0.113.99", "1.2.3.4")))
+            .isEqualTo("203.0.113.99");
+    }
+
+    @Test
+    @DisplayName("여러 신뢰 프록시를 거치면 그 앞의 클라이언트 주소 사용")
+    void 다중_프록시() {
+        assertThat(resolver.resolve(request(GATEWAY, "203.0.113.10, 10.0.0.7")))
+            .isEqualTo("203.0.113.10");
+        assertThat(resolver.resolve(request(GATEWAY, null))).isEqualTo(GATEWAY);
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,98 @@
+package com.yoganavi.user.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtKeyRingTest {
+
+    private static final String EMAIL = "test@example.com";
+    private static final String K1_SECRET = "yoganavi-test-key-one-0123456789abcdef012345";
+    private static final String K2_SECRET = "yoganavi-test-key-two-0123456789abcdef012345";
+
+    @TempDir
+    Path dir;
+
+    private Path keyFile;
+    private JwtKeyRing keyRing;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyFile = dir.resolve("jwt-keys.properties");
+        Files.writeString(keyFile, "jwt.key-ring.active-kid=k1\n"
+            + "jwt.key-ring.keys.k1.secret=" + K1_SECRET + "\n");
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test",
+            Map.of("jwt.key-ring.file", keyFile.toString())));
+        keyRing = new JwtKeyRing(environment);
+        keyRing.init();
+
+        jwtUtil = new JwtUtil(null, null, null, null, null, keyRing, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration",
+            TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration",
+            TimeUnit.DAYS.toMillis(7));
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheTtl", TimeUnit.MINUTES.toMillis(10));
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("키 파일 교체 후 새 키로 서명하고, 이전 키는 retire-at 이후 캐시에 있어도 거부")
+    void 키_교체_후_폐기() throws Exception {
+        // given: k1로 서명한 토큰이 검증되어 캐시에 있음
+        String oldToken = jwtUtil.buildAccessToken(1L, EMAIL, "STUDENT", 0L, "family");
+        assertThat(jwtUtil.validateToken(oldToken).get("email")).isEqualTo(EMAIL);
+
+        // when: k2 추가, 활성 키 변경, k1 사용 종료 예약
+        Instant retireAt = Instant.now().plusMillis(500);
+        Files.writeString(keyFile, "jwt.key-ring.active-kid=k2\n"
+            + "jwt.key-ring.keys.k1.secret=" + K1_SECRET + "\n"
+            + "jwt.key-ring.keys.k1.retire-at=" + retireAt + "\n"
+            + "jwt.key-ring.keys.k2.secret=" + K2_SECRET + "\n");
+        keyRing.checkKeyFile();
+
+        // then: 새 토큰은 k2로 서명, 종료 전에는 이전 토큰도 검증
+        assertThat(keyRing.getSigningKey().kid()).isEqualTo("k2");
+        String newToken = jwtUtil.buildAccessToken(1L, EMAIL, "STUDENT", 0L, "family");
+        assertThat(jwtUtil.validateToken(oldToken).get("email")).isEqualTo(EMAIL);
+        assertThat(jwtUtil.validateToken(newToken).get("email")).isEqualTo(EMAIL);
+
+        // when: retire-at 경과
+        Thread.sleep(Math.max(0, retireAt.toEpochMilli() - System.currentTimeMillis()) + 100);
+
+        // then: 캐시 기간(10분)이 남아 있어도 이전 키 토큰은 거부
+        assertThatThrownBy(() -> jwtUtil.validateToken(oldToken))
+            .isInstanceOf(JwtException.class);
+        assertThat(jwtUtil.validateToken(newToken).get("email")).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("잘못된 키 파일이면 기존 키 링 유지")
+    void 잘못된_키_파일() throws Exception {
+        // given
+        Files.writeString(keyFile, "jwt.key-ring.active-kid=missing\n");
+
+        // when
+        keyRing.checkKeyFile();
+
+        // then
+        assertThat(keyRing.getSigningKey().kid()).isEqualTo("k1");
+    }
+}
@@ -0,0 +1,152 @@
+package com.yoganavi.user.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+import com.yoganavi.user.common.util.JwtUtil.TokenStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 두 노드가 같은 Redis를 쓰는 상황에서 로그아웃한 토큰이 다른 노드에서도 거부되는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtUtilTest {
+
+    private static final String EMAIL = "test@example.com";
+    private static final byte[] CHANNEL =
+        TokenRevocationFilter.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private TokenStore tokenStore;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private TokenNearCache tokenNearCache;
+
+    // token:revoked sorted set (jti -> 만료 시각)
+    private final Map<String, Double> revoked = new ConcurrentHashMap<>();
+
+    private JwtKeyRing keyRing;
+
+    @BeforeEach
+    void setUp() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test",
+            Map.of("jwt.secret", "yoganavi-test-secret-key-0123456789abcdef0123")));
+        keyRing = new JwtKeyRing(environment);
+        keyRing.init();
+
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(zSetOperations.rangeByScore(eq("token:revoked"), anyDouble(), anyDouble()))
+            .thenAnswer(invocation -> Set.copyOf(revoked.keySet()));
+        lenient().when(zSetOperations.score(eq("token:revoked"), anyString()))
+            .thenAnswer(invocation -> revoked.get(invocation.<String>getArgument(1)));
+        // 폐기 스크립트: ZADD만 반영하고 PUBLISH는 어느 노드에도 전달되지 않음
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(),
+            any(), any())).thenAnswer(invocation -> {
+                revoked.put(invocation.getArgument(2),
+                    Double.valueOf(invocation.<String>getArgument(3)));
+                return 1L;
+            });
+        lenient().when(tokenStore.findGeneration(EMAIL)).thenReturn(0L);
+    }
+
+    @Test
+    @DisplayName("폐기 메시지를 받지 못한 노드도 구독 재연결 후에는 로그아웃한 토큰을 거부")
+    void 메시지_누락_노드_재연결후_거부() {
+        // given
+        JwtUtil nodeA = node();
+        TokenRevocationFilter filterB = filter();
+        JwtUtil nodeB = node(filterB);
+        String token = nodeA.generateAccessToken(1L, EMAIL, "STUDENT", "family-1");
+        assertThat(nodeB.isTokenValid(token)).isEqualTo(TokenStatus.VALID);
+
+        // when: B의 구독이 끊긴 동안 A에서 로그아웃
+        filterB.onChannelUnsubscribed(CHANNEL, 0);
+        assertThat(nodeA.logout("Bearer " + token)).isTrue();
+
+        // then: 다시 맞추기 전에는 Redis에서 확인
+        assertThat(nodeB.isTokenValid(token)).isEqualTo(TokenStatus.INVALID);
+        verify(refreshTokenStore).revoke(EMAIL, "family-1");
+    }
+
+    @Test
+    @DisplayName("폐기 메시지가 유실되어도 주기 동기화 후에는 로그아웃한 토큰을 거부")
+    void 메시지_유실_노드_동기화후_거부() {
+        // given
+        JwtUtil nodeA = node();
+        TokenRevocationFilter filterB = filter();
+        JwtUtil nodeB = node(filterB);
+        String token = nodeA.generateAccessToken(1L, EMAIL, "STUDENT", "family-1");
+
+        // when
+        assertThat(nodeA.logout("Bearer " + token)).isTrue();
+        filterB.resync();
+
+        // then
+        assertThat(nodeA.isTokenValid(token)).isEqualTo(TokenStatus.INVALID);
+        assertThat(nodeB.isTokenValid(token)).isEqualTo(TokenStatus.INVALID);
+    }
+
+    private JwtUtil node() {
+        return node(filter());
+    }
+
+    private JwtUtil node(TokenRevocationFilter filter) {
+        JwtUtil jwtUtil = new JwtUtil(null, tokenStore, refreshTokenStore, tokenNearCache, filter,
+            keyRing, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration",
+            TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration",
+            TimeUnit.DAYS.toMillis(7));
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheTtl", TimeUnit.MINUTES.toMillis(1));
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private TokenRevocationFilter filter() {
+        TokenRevocationFilter filter = new TokenRevocationFilter(redisTemplate, listenerContainer,
+            new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "accessTokenExpiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(filter, "expectedRevocations", 1000L);
+        ReflectionTestUtils.setField(filter, "fpp", 0.01);
+        filter.init();
+        return filter;
+    }
+}
@@ -0,0 +1,134 @@
+package com.yoganavi.user.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationFilterTest {
+
+    private static final String REVOKED_KEY = "token:revoked";
+    private static final byte[] CHANNEL =
+        TokenRevocationFilter.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenRevocationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new TokenRevocationFilter(redisTemplate, listenerContainer,
+            new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "accessTokenExpiration", 3600000L);
+        ReflectionTestUtils.setField(filter, "expectedRevocations", 1000L);
+        ReflectionTestUtils.setField(filter, "fpp", 0.01);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("동기화 전에는 폐기 메시지를 받지 못한 노드도 Redis에서 확인해 거부")
+    void 동기화_전_Redis_확인() {
+        // given
+        when(zSetOperations.rangeByScore(eq(REVOKED_KEY), anyDouble(), anyDouble()))
+            .thenThrow(new RedisConnectionFailureException("연결 실패"));
+        filter.init();
+        when(zSetOperations.score(REVOKED_KEY, "jti-1")).thenReturn(expiresAt());
+
+        // when & then
+        assertThat(filter.mightBeRevoked("jti-1")).isTrue();
+        assertThat(filter.isRevoked("jti-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("주기 동기화로 놓친 폐기 메시지를 반영")
+    void 주기_동기화로_누락_보정() {
+        // given
+        when(zSetOperations.rangeByScore(eq(REVOKED_KEY), anyDouble(), anyDouble()))
+            .thenReturn(Set.of())
+            .thenReturn(Set.of("jti-1"));
+        filter.init();
+        assertThat(filter.mightBeRevoked("jti-1")).isFalse();
+
+        // when
+        filter.resync();
+
+        // then
+        when(zSetOperations.score(REVOKED_KEY, "jti-1")).thenReturn(expiresAt());
+        assertThat(filter.isRevoked("jti-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("구독이 다시 연결되면 다시 맞출 때까지 Redis에서 확인하고 놓친 폐기를 반영")
+    void 재구독시_동기화() {
+        // given
+        when(zSetOperations.rangeByScore(eq(REVOKED_KEY), anyDouble(), anyDouble()))
+            .thenReturn(Set.of())
+            .thenReturn(Set.of("jti-1"));
+        filter.init();
+
+        // when
+        filter.onChannelUnsubscribed(CHANNEL, 0);
+
+        // then
+        assertThat(filter.mightBeRevoked("jti-2")).isTrue();
+
+        // when
+        filter.onChannelSubscribed(CHANNEL, 1);
+
+        // then
+        verify(zSetOperations, timeout(1000).times(2))
+            .rangeByScore(eq(REVOKED_KEY), anyDouble(), anyDouble());
+        assertThat(filter.mightBeRevoked("jti-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기 메시지를 받으면 필터에 추가")
+    void 폐기_메시지_반영() {
+        // given
+        when(zSetOperations.rangeByScore(eq(REVOKED_KEY), anyDouble(), anyDouble()))
+            .thenReturn(Set.of());
+        filter.init();
+
+        // when
+        filter.onMessage(new DefaultMessage(CHANNEL,
+            ("jti-1|" + expiresAt().longValue()).getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(filter.mightBeRevoked("jti-1")).isTrue();
+        assertThat(filter.mightBeRevoked("jti-2")).isFalse();
+        verify(zSetOperations, times(0)).score(anyString(), anyString());
+    }
+
+    private Double expiresAt() {
+        return (double) (System.currentTimeMillis() + 600000L);
+    }
+}
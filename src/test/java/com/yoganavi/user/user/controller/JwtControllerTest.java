@@ -0,0 +1,97 @@
+package com.yoganavi.user.user.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+import com.yoganavi.user.common.constants.SecurityConstants;
+import com.yoganavi.user.user.dto.jwt.TokenResponseDto;
+import com.yoganavi.user.user.service.jwt.JwtService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class JwtControllerTest {
+
+    @InjectMocks
+    private JwtController jwtController;
+
+    @Mock
+    private JwtService jwtService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(jwtController).build();
+    }
+
+    @Test
+    @DisplayName("재발급마다 교체된 리프레시 토큰을 쿠키로 내려줘 연속 재발급 가능")
+    void 연속_재발급_쿠키_갱신() throws Exception {
+        // given
+        when(jwtService.reIssueRefreshToken("Bearer access-0", "refresh-1"))
+            .thenReturn(tokens("access-1", "refresh-2"));
+        when(jwtService.reIssueRefreshToken("Bearer access-1", "refresh-2"))
+            .thenReturn(tokens("access-2", "refresh-3"));
+
+        // when: 로그인 때 받은 쿠키로 첫 재발급
+        MockHttpServletResponse first = mockMvc.perform(post("/user/token")
+                .header(SecurityConstants.JWT_HEADER, "Bearer access-0")
+                .cookie(new Cookie(SecurityConstants.REFRESH_TOKEN_COOKIE, "refresh-1")))
+            .andExpect(jsonPath("$.code").value("200"))
+            .andExpect(header().string(SecurityConstants.JWT_HEADER, "Bearer access-1"))
+            .andExpect(cookie().value(SecurityConstants.REFRESH_TOKEN_COOKIE, "refresh-2"))
+            .andExpect(cookie().httpOnly(SecurityConstants.REFRESH_TOKEN_COOKIE, true))
+            .andExpect(cookie().secure(SecurityConstants.REFRESH_TOKEN_COOKIE, true))
+            .andExpect(cookie().path(SecurityConstants.REFRESH_TOKEN_COOKIE, "/"))
+            .andExpect(cookie().sameSite(SecurityConstants.REFRESH_TOKEN_COOKIE, "None"))
+            .andReturn().getResponse();
+
+        // then: 응답 쿠키를 그대로 보내면 두 번째 재발급도 성공
+        Cookie rotated = first.getCookie(SecurityConstants.REFRESH_TOKEN_COOKIE);
+        assertThat(rotated).isNotNull();
+        mockMvc.perform(post("/user/token")
+                .header(SecurityConstants.JWT_HEADER, first.getHeader(SecurityConstants.JWT_HEADER))
+                .cookie(rotated))
+            .andExpect(jsonPath("$.code").value("200"))
+            .andExpect(header().string(SecurityConstants.JWT_HEADER, "Bearer access-2"))
+            .andExpect(header().string(SecurityConstants.REFRESH_TOKEN_HEADER, "refresh-3"))
+            .andExpect(cookie().value(SecurityConstants.REFRESH_TOKEN_COOKIE, "refresh-3"));
+    }
+
+    @Test
+    @DisplayName("헤더로 받은 리프레시 토큰이 쿠키보다 우선")
+    void 헤더_우선() throws Exception {
+        // given
+        when(jwtService.reIssueRefreshToken("Bearer access-0", "refresh-header"))
+            .thenReturn(tokens("access-1", "refresh-2"));
+
+        // when & then
+        mockMvc.perform(post("/user/token")
+                .header(SecurityConstants.JWT_HEADER, "Bearer access-0")
+                .header(SecurityConstants.REFRESH_TOKEN_HEADER, "refresh-header")
+                .cookie(new Cookie(SecurityConstants.REFRESH_TOKEN_COOKIE, "refresh-cookie")))
+            .andExpect(jsonPath("$.code").value("200"))
+            .andExpect(cookie().value(SecurityConstants.REFRESH_TOKEN_COOKIE, "refresh-2"));
+    }
+
+    private TokenResponseDto tokens(String accessToken, String refreshToken) {
+        return TokenResponseDto.builder()
+            .accessToken(accessToken)
+            .refreshToken(refreshToken)
+            .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.yoganavi.user.user.service.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoganavi.user.user.service.bulk.UserImportReader.Entry;
+import com.yoganavi.user.user.service.bulk.UserImportReader.Format;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class UserImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UserImportReader open(String content, Format format) throws IOException {
+        return UserImportReader.open(
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format,
+            objectMapper);
+    }
+
+    @Nested
+    @DisplayName("CSV 읽기 테스트")
+    class CsvTest {
+
+        @Test
+        @DisplayName("따옴표 안의 쉼표와 따옴표를 값으로 읽음")
+        void 따옴표_필드_읽기() throws IOException {
+            // given
+            String csv = "email,password,nickname,teacher\n"
+                + "a@test.com,\"pa,ss\"\"word\",요가강사,true\n";
+
+            // when
+            try (UserImportReader reader = open(csv, Format.CSV)) {
+                Entry entry = reader.next();
+
+                // then
+                assertThat(entry.index()).isEqualTo(1);
+                assertThat(entry.row().getEmail()).isEqualTo("a@test.com");
+                assertThat(entry.row().getPassword()).isEqualTo("pa,ss\"word");
+                assertThat(entry.row().getNickname()).isEqualTo("요가강사");
+                assertThat(entry.row().isTeacher()).isTrue();
+                assertThat(reader.next()).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("필드가 부족한 행은 오류로 반환하고 계속 읽음")
+        void 필드부족_행_오류() throws IOException {
+            // given
+            String csv = "email,password,nickname\n"
+                + "broken-row\n"
+                + "b@test.com,pw,학생\n";
+
+            // when
+            try (UserImportReader reader = open(csv, Format.CSV)) {
+                Entry broken = reader.next();
+                Entry valid = reader.next();
+
+                // then
+                assertThat(broken.row()).isNull();
+                assertThat(broken.error()).isNotNull();
+                assertThat(valid.index()).isEqualTo(2);
+                assertThat(valid.row().isTeacher()).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("헤더가 없으면 실패")
+        void 헤더없음_실패() {
+            assertThatThrownBy(() -> open("a@test.com,pw,닉네임\n", Format.CSV))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("재개 시 체크포인트까지 건너뜀")
+        void 체크포인트_건너뛰기() throws IOException {
+            // given
+            String csv = "email,password,nickname\n"
+                + "a@test.com,pw,a\n"
+                + "b@test.com,pw,b\n"
+                + "c@test.com,pw,c\n";
+
+            // when
+            try (UserImportReader reader = open(csv, Format.CSV)) {
+                reader.skip(2);
+                Entry entry = reader.next();
+
+                // then
+                assertThat(entry.index()).isEqualTo(3);
+                assertThat(entry.row().getEmail()).isEqualTo("c@test.com");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON 읽기 테스트")
+    class JsonTest {
+
+        @Test
+        @DisplayName("배열의 객체를 한 행씩 읽음")
+        void 배열_객체_읽기() throws IOException {
+            // given
+            String json = "[{\"email\":\"a@test.com\",\"password\":\"pw\",\"nickname\":\"a\","
+                + "\"teacher\":true},"
+                + "{\"email\":\"b@test.com\",\"password\":\"pw\",\"nickname\":\"b\"}]";
+
+            // when
+            try (UserImportReader reader = open(json, Format.JSON)) {
+                Entry first = reader.next();
+                Entry second = reader.next();
+
+                // then
+                assertThat(first.row().isTeacher()).isTrue();
+                assertThat(second.index()).isEqualTo(2);
+                assertThat(second.row().getEmail()).isEqualTo("b@test.com");
+                assertThat(reader.next()).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("배열이 아니면 실패")
+        void 배열아님_실패() {
+            assertThatThrownBy(() -> open("{\"email\":\"a@test.com\"}", Format.JSON))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.yoganavi.user.common.entity.Users;
 import com.yoganavi.user.common.repository.UserRepository;
+import com.yoganavi.user.common.util.UserExistenceFilter;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
@@ -33,6 +34,9 @@ class DeleteServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserExistenceFilter userExistenceFilter;
+
     @Captor
     private ArgumentCaptor<Users> usersCaptor;
 
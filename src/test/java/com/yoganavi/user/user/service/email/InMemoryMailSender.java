@@ -0,0 +1,77 @@
+package com.yoganavi.user.user.service.email;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/**
+ * 테스트용 메모리 SMTP 대체 구현
+ * <p>
+ * 전송된 메시지를 보관하고, send 호출 한 번을 SMTP 연결 하나로 센다. 지정한 수신자는 실패로 처리해 부분 실패를 재현할 수 있다.
+ */
+class InMemoryMailSender implements JavaMailSender {
+
+    private final List<SimpleMailMessage> sent = new CopyOnWriteArrayList<>();
+    private final Set<String> failingRecipients = new HashSet<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    void failFor(String recipient) {
+        failingRecipients.add(recipient);
+    }
+
+    List<SimpleMailMessage> getSent() {
+        return sent;
+    }
+
+    int getConnections() {
+        return connections.get();
+    }
+
+    @Override
+    public void send(SimpleMailMessage... simpleMessages) {
+        connections.incrementAndGet();
+        Map<Object, Exception> failed = new LinkedHashMap<>();
+        for (SimpleMailMessage message : simpleMessages) {
+            String recipient = message.getTo() != null ? message.getTo()[0] : null;
+            if (failingRecipients.contains(recipient)) {
+                failed.put(message, new IllegalStateException("수신 거부: " + recipient));
+            } else {
+                sent.add(message);
+            }
+        }
+        if (!failed.isEmpty()) {
+            throw new MailSendException(failed);
+        }
+    }
+
+    @Override
+    public MimeMessage createMimeMessage() {
+        return new MimeMessage(Session.getInstance(new Properties()));
+    }
+
+    @Override
+    public MimeMessage createMimeMessage(InputStream contentStream) {
+        try {
+            return new MimeMessage(Session.getInstance(new Properties()), contentStream);
+        } catch (Exception e) {
+            throw new MailParseException(e);
+        }
+    }
+
+    @Override
+    public void send(MimeMessage... mimeMessages) {
+        throw new UnsupportedOperationException("MimeMessage 전송은 지원하지 않습니다.");
+    }
+}
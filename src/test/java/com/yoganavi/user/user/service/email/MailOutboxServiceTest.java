@@ -0,0 +1,117 @@
+package com.yoganavi.user.user.service.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yoganavi.user.common.entity.MailOutbox;
+import com.yoganavi.user.common.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+    private static final String RECIPIENT = "a@example.com";
+    private static final String PURPOSE = "회원가입";
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    private MailOutboxService mailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxService = new MailOutboxService(mailOutboxRepository, new SimpleMeterRegistry());
+        mailOutboxService.init();
+    }
+
+    @Test
+    @DisplayName("전송 중인 메일을 재요청하면 내용만 바꾸고 다시 가져가지 않음")
+    void 전송중_재요청() {
+        // given
+        Instant leaseEnd = Instant.now().plusSeconds(60);
+        MailOutbox mail = mail();
+        mail.setNextAttemptAt(leaseEnd);
+        mail.setLeasedUntil(leaseEnd);
+        when(mailOutboxRepository.findFirstByRecipientAndPurposeAndStatus(RECIPIENT, PURPOSE,
+            MailOutbox.PENDING)).thenReturn(Optional.of(mail));
+
+        // when
+        mailOutboxService.enqueue(RECIPIENT, PURPOSE, "모두의 음악 회원가입", "회원가입 인증번호 : 654321");
+
+        // then
+        assertThat(mail.getRevision()).isEqualTo(1);
+        assertThat(mail.getBody()).contains("654321");
+        assertThat(mail.getNextAttemptAt()).isEqualTo(leaseEnd);
+        verify(mailOutboxRepository, never()).save(any(MailOutbox.class));
+    }
+
+    @Test
+    @DisplayName("재시도 대기 중인 메일을 재요청하면 바로 전송 대상으로")
+    void 재시도_대기중_재요청() {
+        // given
+        MailOutbox mail = mail();
+        mail.setNextAttemptAt(Instant.now().plusSeconds(300));
+        when(mailOutboxRepository.findFirstByRecipientAndPurposeAndStatus(RECIPIENT, PURPOSE,
+            MailOutbox.PENDING)).thenReturn(Optional.of(mail));
+
+        // when
+        mailOutboxService.enqueue(RECIPIENT, PURPOSE, "모두의 음악 회원가입", "회원가입 인증번호 : 654321");
+
+        // then
+        assertThat(mail.getNextAttemptAt()).isBeforeOrEqualTo(Instant.now());
+    }
+
+    @Test
+    @DisplayName("전송 중 내용이 바뀌었으면 완료 처리하지 않고 임대를 풀어 새 내용으로 재전송")
+    void 전송중_내용_변경() {
+        // given
+        MailOutbox mail = mail();
+        mail.setId(1L);
+        when(mailOutboxRepository.markSent(eq(1L), eq(0), any(Instant.class))).thenReturn(0);
+        when(mailOutboxRepository.releaseChanged(eq(1L), eq(0), any(Instant.class)))
+            .thenReturn(1);
+
+        // when
+        boolean sent = mailOutboxService.markSent(mail);
+
+        // then
+        assertThat(sent).isFalse();
+        verify(mailOutboxRepository).releaseChanged(eq(1L), anyInt(), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("최종 실패한 메일은 대기 표시를 지워 같은 메일을 새로 넣을 수 있음")
+    void 최종_실패_대기_표시_해제() {
+        // given
+        MailOutbox mail = mail();
+        mail.setId(1L);
+        mail.setAttempts(5);
+        ReflectionTestUtils.setField(mailOutboxService, "maxAttempts", 5);
+        when(mailOutboxRepository.findById(1L)).thenReturn(Optional.of(mail));
+
+        // when
+        mailOutboxService.markFailed(mail, "SMTP 오류");
+
+        // then
+        assertThat(mail.getStatus()).isEqualTo(MailOutbox.FAILED);
+        assertThat(mail.getPending()).isNull();
+    }
+
+    private MailOutbox mail() {
+        return MailOutbox.pending(RECIPIENT, PURPOSE, "모두의 음악 회원가입", "회원가입 인증번호 : 123456");
+    }
+}
@@ -0,0 +1,110 @@
+package com.yoganavi.user.user.service.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yoganavi.user.common.entity.MailOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxWorkerTest {
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    private InMemoryMailSender mailSender;
+    private MailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new InMemoryMailSender();
+        worker = new MailOutboxWorker(mailOutboxService, mailSender, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(worker, "workers", 2);
+        ReflectionTestUtils.setField(worker, "batchSize", 2);
+        worker.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 중인 메일을 배치 단위로 전송하고 완료 처리")
+    void 대기중_메일_배치_전송() {
+        // given
+        MailOutbox first = mail(1L, "a@example.com");
+        MailOutbox second = mail(2L, "b@example.com");
+        MailOutbox third = mail(3L, "c@example.com");
+        when(mailOutboxService.claim(4)).thenReturn(List.of(first, second, third));
+        when(mailOutboxService.markSent(any(MailOutbox.class))).thenReturn(true);
+
+        // when
+        worker.drain();
+
+        // then
+        assertThat(mailSender.getSent()).hasSize(3);
+        assertThat(mailSender.getConnections()).isEqualTo(2);
+        verify(mailOutboxService).markSent(first);
+        verify(mailOutboxService).markSent(second);
+        verify(mailOutboxService).markSent(third);
+        verify(mailOutboxService, never()).markFailed(any(MailOutbox.class), anyString());
+    }
+
+    @Test
+    @DisplayName("배치 중 실패한 메일만 재시도 처리")
+    void 실패한_메일만_재시도() {
+        // given
+        MailOutbox delivered = mail(1L, "a@example.com");
+        MailOutbox rejected = mail(2L, "reject@example.com");
+        mailSender.failFor("reject@example.com");
+        when(mailOutboxService.claim(4)).thenReturn(List.of(delivered, rejected));
+        when(mailOutboxService.markSent(delivered)).thenReturn(true);
+
+        // when
+        worker.drain();
+
+        // then
+        assertThat(mailSender.getSent()).hasSize(1);
+        verify(mailOutboxService).markSent(delivered);
+        verify(mailOutboxService).markFailed(eq(rejected), anyString());
+        verify(mailOutboxService, never()).markSent(rejected);
+    }
+
+    @Test
+    @DisplayName("전송할 메일이 없으면 SMTP 연결 없음")
+    void 대기_메일_없음() {
+        // given
+        when(mailOutboxService.claim(anyInt())).thenReturn(List.of());
+
+        // when
+        worker.drain();
+
+        // then
+        assertThat(mailSender.getConnections()).isZero();
+    }
+
+    private MailOutbox mail(Long id, String recipient) {
+        MailOutbox mail = MailOutbox.pending(recipient, "회원가입", "모두의 음악 회원가입",
+            "회원가입 인증번호 : 123456");
+        mail.setId(id);
+        mail.setCreatedAt(Instant.now());
+        return mail;
+    }
+}
@@ -1,16 +1,21 @@
 package com.yoganavi.user.user.service.login;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.yoganavi.user.common.entity.Users;
+import com.yoganavi.user.common.repository.UserCredential;
 import com.yoganavi.user.common.repository.UserRepository;
 import com.yoganavi.user.common.util.JwtUtil;
+import com.yoganavi.user.common.util.JwtUtil.RefreshToken;
+import com.yoganavi.user.common.util.PasswordHashingExecutor;
 import com.yoganavi.user.user.dto.login.LoginRequestDto;
 import com.yoganavi.user.user.dto.login.LoginResponseDto;
 import java.time.Instant;
@@ -24,7 +29,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
 class LoginServiceTest {
@@ -39,7 +43,7 @@ class LoginServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingExecutor passwordHashingExecutor;
 
     private LoginRequestDto validLoginRequest;
     private Users validUser;
@@ -69,10 +73,11 @@ class LoginServiceTest {
         @DisplayName("정상적인 로그인 성공")
         void 정상_로그인_성공() {
             // given
-            when(userRepository.findByEmail(validLoginRequest.getEmail())).thenReturn(Optional.of(validUser));
-            when(passwordEncoder.matches(rawPassword, encodedPassword)).thenReturn(true);
-            when(jwtUtil.generateAccessToken(anyString(), anyString())).thenReturn("access.token.here");
-            when(jwtUtil.generateRefreshToken(anyString())).thenReturn("refresh.token.here");
+            when(userRepository.findCredentialByEmail(validLoginRequest.getEmail())).thenReturn(Optional.of(credentialOf(validUser)));
+            when(passwordHashingExecutor.matches(rawPassword, encodedPassword)).thenReturn(true);
+            when(jwtUtil.generateAccessToken(anyLong(), anyString(), anyString(), anyString())).thenReturn("access.token.here");
+            when(jwtUtil.generateRefreshToken(anyString())).thenReturn(
+                new RefreshToken("refresh.token.here", "family"));
 
             // when
             LoginResponseDto response = loginService.login(validLoginRequest);
@@ -82,38 +87,60 @@ class LoginServiceTest {
             assertThat(response.getAccessToken()).isEqualTo("access.token.here");
             assertThat(response.getRefreshToken()).isEqualTo("refresh.token.here");
             assertThat(response.getMessage()).isEqualTo("로그인 성공");
-            verify(jwtUtil).generateAccessToken(validUser.getEmail(), validUser.getRole());
+            verify(jwtUtil).generateAccessToken(validUser.getUserId(), validUser.getEmail(),
+                validUser.getRole(), "family");
             verify(jwtUtil).generateRefreshToken(validUser.getEmail());
+            verify(userRepository, never()).updatePassword(anyLong(), anyString());
+        }
+
+        @Test
+        @DisplayName("로그인 성공 시 cost가 다른 비밀번호 해시 갱신")
+        void 로그인_성공_비밀번호_해시_갱신() {
+            // given
+            when(userRepository.findCredentialByEmail(validLoginRequest.getEmail())).thenReturn(Optional.of(credentialOf(validUser)));
+            when(passwordHashingExecutor.matches(rawPassword, encodedPassword)).thenReturn(true);
+            when(passwordHashingExecutor.upgradeEncoding(encodedPassword)).thenReturn(true);
+            when(passwordHashingExecutor.encode(rawPassword)).thenReturn("upgradedPassword123");
+            when(jwtUtil.generateAccessToken(anyLong(), anyString(), anyString(), anyString())).thenReturn("access.token.here");
+            when(jwtUtil.generateRefreshToken(anyString())).thenReturn(
+                new RefreshToken("refresh.token.here", "family"));
+
+            // when
+            LoginResponseDto response = loginService.login(validLoginRequest);
+
+            // then
+            assertThat(response.getAccessToken()).isEqualTo("access.token.here");
+            verify(userRepository).updatePassword(validUser.getUserId(), "upgradedPassword123");
         }
 
         @Test
         @DisplayName("존재하지 않는 이메일로 로그인 시도")
         void 존재하지않는_이메일_로그인_실패() {
             // given
-            when(userRepository.findByEmail(validLoginRequest.getEmail())).thenReturn(Optional.empty());
+            when(userRepository.findCredentialByEmail(validLoginRequest.getEmail())).thenReturn(Optional.empty());
 
             // when, then
             assertThatThrownBy(() -> loginService.login(validLoginRequest))
                 .isInstanceOf(BadCredentialsException.class)
                 .hasMessage("사용자가 존재하지 않습니다.");
 
-            verify(passwordEncoder, never()).matches(anyString(), anyString());
-            verify(jwtUtil, never()).generateAccessToken(anyString(), anyString());
+            verify(passwordHashingExecutor, never()).matches(anyString(), anyString());
+            verify(jwtUtil, never()).generateAccessToken(anyLong(), anyString(), anyString(), anyString());
         }
 
         @Test
         @DisplayName("잘못된 비밀번호로 로그인 시도")
         void 잘못된_비밀번호_로그인_실패() {
             // given
-            when(userRepository.findByEmail(validLoginRequest.getEmail())).thenReturn(Optional.of(validUser));
-            when(passwordEncoder.matches(rawPassword, encodedPassword)).thenReturn(false);
+            when(userRepository.findCredentialByEmail(validLoginRequest.getEmail())).thenReturn(Optional.of(credentialOf(validUser)));
+            when(passwordHashingExecutor.matches(rawPassword, encodedPassword)).thenReturn(false);
 
             // when, then
             assertThatThrownBy(() -> loginService.login(validLoginRequest))
                 .isInstanceOf(BadCredentialsException.class)
                 .hasMessage("비밀번호가 일치하지 않습니다.");
 
-            verify(jwtUtil, never()).generateAccessToken(anyString(), anyString());
+            verify(jwtUtil, never()).generateAccessToken(anyLong(), anyString(), anyString(), anyString());
         }
 
         @Test
@@ -121,15 +148,15 @@ class LoginServiceTest {
         void 삭제된_계정_로그인_실패() {
             // given
             validUser.setIsDeleted(true);
-            when(userRepository.findByEmail(validLoginRequest.getEmail())).thenReturn(Optional.of(validUser));
+            when(userRepository.findCredentialByEmail(validLoginRequest.getEmail())).thenReturn(Optional.of(credentialOf(validUser)));
 
             // when, then
             assertThatThrownBy(() -> loginService.login(validLoginRequest))
                 .isInstanceOf(BadCredentialsException.class)
                 .hasMessage("계정이 삭제되었습니다.");
 
-            verify(passwordEncoder, never()).matches(anyString(), anyString());
-            verify(jwtUtil, never()).generateAccessToken(anyString(), anyString());
+            verify(passwordHashingExecutor, never()).matches(anyString(), anyString());
+            verify(jwtUtil, never()).generateAccessToken(anyLong(), anyString(), anyString(), anyString());
         }
     }
 
@@ -142,11 +169,12 @@ class LoginServiceTest {
         void 탈퇴진행중_계정_복구_성공() {
             // given
             validUser.setDeletedAt(Instant.now());
-            when(userRepository.findByEmail(validLoginRequest.getEmail())).thenReturn(Optional.of(validUser));
-            when(passwordEncoder.matches(rawPassword, encodedPassword)).thenReturn(true);
-            when(userRepository.findById(validUser.getUserId())).thenReturn(Optional.of(validUser));
-            when(jwtUtil.generateAccessToken(anyString(), anyString())).thenReturn("access.token.here");
-            when(jwtUtil.generateRefreshToken(anyString())).thenReturn("refresh.token.here");
+            when(userRepository.findCredentialByEmail(validLoginRequest.getEmail())).thenReturn(Optional.of(credentialOf(validUser)));
+            when(passwordHashingExecutor.matches(rawPassword, encodedPassword)).thenReturn(true);
+            when(userRepository.restoreDeletedUser(validUser.getUserId())).thenReturn(1);
+            when(jwtUtil.generateAccessToken(anyLong(), anyString(), anyString(), anyString())).thenReturn("access.token.here");
+            when(jwtUtil.generateRefreshToken(anyString())).thenReturn(
+                new RefreshToken("refresh.token.here", "family"));
 
             // when
             LoginResponseDto response = loginService.login(validLoginRequest);
@@ -154,7 +182,8 @@ class LoginServiceTest {
             // then
             assertThat(response).isNotNull();
             assertThat(response.getAccessToken()).isNotNull();
-            verify(userRepository).save(any(Users.class));
+            verify(userRepository).restoreDeletedUser(validUser.getUserId());
+            verify(passwordHashingExecutor, times(1)).matches(rawPassword, encodedPassword);
         }
 
         @Test
@@ -162,15 +191,15 @@ class LoginServiceTest {
         void 탈퇴진행중_계정_잘못된_비밀번호_실패() {
             // given
             validUser.setDeletedAt(Instant.now());
-            when(userRepository.findByEmail(validLoginRequest.getEmail())).thenReturn(Optional.of(validUser));
-            when(passwordEncoder.matches(rawPassword, encodedPassword)).thenReturn(false);
+            when(userRepository.findCredentialByEmail(validLoginRequest.getEmail())).thenReturn(Optional.of(credentialOf(validUser)));
+            when(passwordHashingExecutor.matches(rawPassword, encodedPassword)).thenReturn(false);
 
             // when, then
             assertThatThrownBy(() -> loginService.login(validLoginRequest))
                 .isInstanceOf(BadCredentialsException.class)
                 .hasMessage("비밀번호가 일치하지 않습니다.");
 
-            verify(userRepository, never()).save(any(Users.class));
+            verify(userRepository, never()).restoreDeletedUser(any());
         }
     }
 
@@ -182,30 +211,27 @@ class LoginServiceTest {
         @DisplayName("계정 복구 처리 성공")
         void 계정_복구_처리_성공() {
             // given
-            validUser.setDeletedAt(Instant.now());
-            when(userRepository.findById(validUser.getUserId())).thenReturn(Optional.of(validUser));
-            when(userRepository.save(any(Users.class))).thenReturn(validUser);
+            when(userRepository.restoreDeletedUser(validUser.getUserId())).thenReturn(1);
 
             // when
-            boolean result = loginService.recoverAccount(validUser);
+            boolean result = loginService.recoverAccount(validUser.getUserId());
 
             // then
             assertThat(result).isTrue();
-            verify(userRepository).save(any(Users.class));
+            verify(userRepository).restoreDeletedUser(validUser.getUserId());
         }
 
         @Test
         @DisplayName("존재하지 않는 계정 복구 시도")
         void 존재하지않는_계정_복구_실패() {
             // given
-            when(userRepository.findById(validUser.getUserId())).thenReturn(Optional.empty());
+            when(userRepository.restoreDeletedUser(validUser.getUserId())).thenReturn(0);
 
             // when
-            boolean result = loginService.recoverAccount(validUser);
+            boolean result = loginService.recoverAccount(validUser.getUserId());
 
             // then
             assertThat(result).isFalse();
-            verify(userRepository, never()).save(any(Users.class));
         }
 
         @Test
@@ -216,8 +242,12 @@ class LoginServiceTest {
 
             // then
             assertThat(result).isFalse();
-            verify(userRepository, never()).findById(any());
-            verify(userRepository, never()).save(any());
+            verify(userRepository, never()).restoreDeletedUser(any());
         }
     }
-}
\ No newline at end of file
+
+    private static UserCredential credentialOf(Users user) {
+        return new UserCredential(user.getUserId(), user.getEmail(), user.getPwd(), user.getRole(),
+            user.getIsDeleted(), user.getDeletedAt());
+    }
+}
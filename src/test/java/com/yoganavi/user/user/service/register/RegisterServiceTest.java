@@ -8,11 +8,12 @@ import static org.mockito.Mockito.when;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.yoganavi.kafka.service.KafkaProducerService;
 import com.yoganavi.user.common.entity.Users;
 import com.yoganavi.user.common.repository.UserRepository;
+import com.yoganavi.user.common.util.UserExistenceFilter;
 import com.yoganavi.user.user.dto.register.RegisterDto;
 import com.yoganavi.user.user.service.email.EmailService;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -39,6 +40,12 @@ class RegisterServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserExistenceFilter userExistenceFilter;
+
+    @Mock
+    private KafkaProducerService kafkaProducerService;
+
     private RegisterDto validRegisterDto;
     private Users validUser;
 
@@ -68,7 +75,7 @@ class RegisterServiceTest {
         void 신규사용자_이메일인증번호_전송_성공() {
             // given
             String email = "new@example.com";
-            when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+            when(userExistenceFilter.mightContainEmail(email)).thenReturn(false);
             when(emailService.sendVerificationEmail(email, "회원가입")).thenReturn("인증 번호 전송");
 
             // when
@@ -77,6 +84,24 @@ class RegisterServiceTest {
             // then
             assertThat(result).isEqualTo("인증 번호 전송");
             verify(emailService).sendVerificationEmail(email, "회원가입");
+            verify(userRepository, never()).existsByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("필터 오탐이면 DB 확인 후 인증번호 전송")
+        void 필터오탐_DB확인후_전송_성공() {
+            // given
+            String email = "new@example.com";
+            when(userExistenceFilter.mightContainEmail(email)).thenReturn(true);
+            when(userRepository.existsByEmail(email)).thenReturn(false);
+            when(emailService.sendVerificationEmail(email, "회원가입")).thenReturn("인증 번호 전송");
+
+            // when
+            String result = registerService.sendEmailToken(email);
+
+            // then
+            assertThat(result).isEqualTo("인증 번호 전송");
+            verify(userRepository).existsByEmail(email);
         }
 
         @Test
@@ -84,7 +109,8 @@ class RegisterServiceTest {
         void 기존사용자_이메일인증번호_전송_실패() {
             // given
             String email = "existing@example.com";
-            when(userRepository.findByEmail(email)).thenReturn(Optional.of(new Users()));
+            when(userExistenceFilter.mightContainEmail(email)).thenReturn(true);
+            when(userRepository.existsByEmail(email)).thenReturn(true);
 
             // when
             String result = registerService.sendEmailToken(email);
@@ -152,10 +178,10 @@ class RegisterServiceTest {
         @DisplayName("정상적인 회원가입 성공")
         void 정상_회원가입_성공() {
             // given
-            when(emailService.isVerified(validRegisterDto.getEmail(), "회원가입")).thenReturn(true);
+            when(emailService.consumeVerification(validRegisterDto.getEmail(), "회원가입")).thenReturn(true);
             when(passwordEncoder.encode(validRegisterDto.getPassword())).thenReturn(
                 "encodedPassword");
-            when(userRepository.save(any(Users.class))).thenReturn(validUser);
+            when(userRepository.saveAndFlush(any(Users.class))).thenReturn(validUser);
 
             // when
             Users result = registerService.registerUser(validRegisterDto);
@@ -165,7 +191,7 @@ class RegisterServiceTest {
             assertThat(result.getEmail()).isEqualTo(validRegisterDto.getEmail());
             assertThat(result.getNickname()).isEqualTo(validRegisterDto.getNickname());
             assertThat(result.getRole()).isEqualTo("STUDENT");
-            verify(emailService).clearVerificationStatus(validRegisterDto.getEmail(), "회원가입");
+            verify(emailService, never()).restoreVerification(validRegisterDto.getEmail(), "회원가입");
         }
 
         @Test
@@ -175,10 +201,10 @@ class RegisterServiceTest {
             validRegisterDto.setTeacher(true);
             validUser.setRole("TEACHER");
 
-            when(emailService.isVerified(validRegisterDto.getEmail(), "회원가입")).thenReturn(true);
+            when(emailService.consumeVerification(validRegisterDto.getEmail(), "회원가입")).thenReturn(true);
             when(passwordEncoder.encode(validRegisterDto.getPassword())).thenReturn(
                 "encodedPassword");
-            when(userRepository.save(any(Users.class))).thenReturn(validUser);
+            when(userRepository.saveAndFlush(any(Users.class))).thenReturn(validUser);
 
             // when
             Users result = registerService.registerUser(validRegisterDto);
@@ -192,46 +218,86 @@ class RegisterServiceTest {
         @DisplayName("이메일 미인증 상태로 회원가입 시도")
         void 이메일미인증_회원가입_실패() {
             // given
-            when(emailService.isVerified(validRegisterDto.getEmail(), "회원가입")).thenReturn(false);
+            when(emailService.consumeVerification(validRegisterDto.getEmail(), "회원가입")).thenReturn(false);
 
             // when, then
             assertThatThrownBy(() -> registerService.registerUser(validRegisterDto))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("이메일 인증이 완료되지 않았습니다.");
 
-            verify(userRepository, never()).save(any(Users.class));
+            verify(userRepository, never()).saveAndFlush(any(Users.class));
         }
 
         @Test
         @DisplayName("중복된 이메일로 회원가입 시도")
         void 중복이메일_회원가입_실패() {
             // given
-            when(emailService.isVerified(validRegisterDto.getEmail(), "회원가입")).thenReturn(true);
+            when(emailService.consumeVerification(validRegisterDto.getEmail(), "회원가입")).thenReturn(true);
             when(passwordEncoder.encode(validRegisterDto.getPassword())).thenReturn(
                 "encodedPassword");
-            when(userRepository.save(any(Users.class))).thenThrow(
+            when(userRepository.saveAndFlush(any(Users.class))).thenThrow(
                 new DataIntegrityViolationException("중복된 이메일"));
 
             // when, then
             assertThatThrownBy(() -> registerService.registerUser(validRegisterDto))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("회원 정보 저장 중 오류가 발생했습니다.");
+            verify(emailService).restoreVerification(validRegisterDto.getEmail(), "회원가입");
+        }
+
+        @Test
+        @DisplayName("unique 제약 위반은 저장 시점에 처리되어 인증 상태 복구, 이벤트 미발행")
+        void 제약위반_저장시점_처리() {
+            // given
+            when(emailService.consumeVerification(validRegisterDto.getEmail(), "회원가입")).thenReturn(true);
+            when(passwordEncoder.encode(validRegisterDto.getPassword())).thenReturn(
+                "encodedPassword");
+            when(userRepository.saveAndFlush(any(Users.class))).thenThrow(
+                new DataIntegrityViolationException("Duplicate entry for key 'users.email'"));
+
+            // when, then
+            assertThatThrownBy(() -> registerService.registerUser(validRegisterDto))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("회원 정보 저장 중 오류가 발생했습니다.");
+            verify(userRepository, never()).save(any(Users.class));
+            verify(userExistenceFilter, never()).add(anyString(), anyString());
+            verify(kafkaProducerService, never()).publishUserCreatedEvent(any(Users.class));
+            verify(emailService).restoreVerification(validRegisterDto.getEmail(), "회원가입");
+        }
+
+        @Test
+        @DisplayName("사용 중인 닉네임이면 비밀번호 해시 전에 실패")
+        void 사용중닉네임_해시전_실패() {
+            // given
+            when(emailService.consumeVerification(validRegisterDto.getEmail(), "회원가입")).thenReturn(true);
+            when(userExistenceFilter.mightContainNickname(validRegisterDto.getNickname()))
+                .thenReturn(true);
+            when(userRepository.existsByNickname(validRegisterDto.getNickname())).thenReturn(true);
+
+            // when, then
+            assertThatThrownBy(() -> registerService.registerUser(validRegisterDto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 사용 중인 닉네임입니다.");
+
+            verify(passwordEncoder, never()).encode(anyString());
+            verify(emailService).restoreVerification(validRegisterDto.getEmail(), "회원가입");
         }
 
         @Test
         @DisplayName("중복된 닉네임으로 회원가입 시도")
         void 중복닉네임_회원가입_실패() {
             // given
-            when(emailService.isVerified(validRegisterDto.getEmail(), "회원가입")).thenReturn(true);
+            when(emailService.consumeVerification(validRegisterDto.getEmail(), "회원가입")).thenReturn(true);
             when(passwordEncoder.encode(validRegisterDto.getPassword())).thenReturn(
                 "encodedPassword");
-            when(userRepository.save(any(Users.class))).thenThrow(
+            when(userRepository.saveAndFlush(any(Users.class))).thenThrow(
                 new DataIntegrityViolationException("중복된 닉네임"));
 
             // when, then
             assertThatThrownBy(() -> registerService.registerUser(validRegisterDto))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("회원 정보 저장 중 오류가 발생했습니다.");
+            verify(emailService).restoreVerification(validRegisterDto.getEmail(), "회원가입");
         }
     }
 }
\ No newline at end of file
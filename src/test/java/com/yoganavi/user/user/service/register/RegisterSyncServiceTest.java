@@ -3,6 +3,7 @@ package com.yoganavi.user.user.service.register;
 import com.yoganavi.kafka.service.KafkaProducerService;
 import com.yoganavi.user.common.entity.Users;
 import com.yoganavi.user.common.repository.UserRepository;
+import com.yoganavi.user.common.util.UserExistenceFilter;
 import com.yoganavi.user.user.dto.register.RegisterDto;
 import com.yoganavi.user.user.service.email.EmailService;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +36,9 @@ class RegisterSyncServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserExistenceFilter userExistenceFilter;
+
     @InjectMocks
     private RegisterServiceImpl registerService;
 
@@ -51,7 +56,7 @@ class RegisterSyncServiceTest {
     @Test
     void 회원가입_성공() {
         // Given
-        given(emailService.isVerified(registerDto.getEmail(), "회원가입")).willReturn(true);
+        given(emailService.consumeVerification(registerDto.getEmail(), "회원가입")).willReturn(true);
         given(passwordEncoder.encode(any())).willReturn("encodedPassword");
 
         Users savedUser = new Users();
@@ -71,14 +76,14 @@ class RegisterSyncServiceTest {
         // Kafka 이벤트 발행 확인
         verify(kafkaEventService).publishUserCreatedEvent(result);
 
-        // 이메일 인증 상태 초기화 확인
-        verify(emailService).clearVerificationStatus(registerDto.getEmail(), "회원가입");
+        // 성공 시 소비한 인증 상태를 복구하지 않음
+        verify(emailService, never()).restoreVerification(registerDto.getEmail(), "회원가입");
     }
 
     @Test
     void 이메일_인증_미완() {
         // Given
-        given(emailService.isVerified(registerDto.getEmail(), "회원가입")).willReturn(false);
+        given(emailService.consumeVerification(registerDto.getEmail(), "회원가입")).willReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> registerService.registerUser(registerDto))
@@ -89,7 +94,7 @@ class RegisterSyncServiceTest {
     @Test
     void DB_저장_실패() {
         // Given
-        given(emailService.isVerified(registerDto.getEmail(), "회원가입")).willReturn(true);
+        given(emailService.consumeVerification(registerDto.getEmail(), "회원가입")).willReturn(true);
         given(passwordEncoder.encode(any())).willReturn("encodedPassword");
         given(userRepository.save(any())).willThrow(new RuntimeException("DB 에러"));
 
@@ -97,5 +102,8 @@ class RegisterSyncServiceTest {
         assertThatThrownBy(() -> registerService.registerUser(registerDto))
             .isInstanceOf(RuntimeException.class)
             .hasMessage("회원가입 처리 중 오류가 발생했습니다.");
+
+        // 저장 실패 시 인증 상태 복구
+        verify(emailService).restoreVerification(registerDto.getEmail(), "회원가입");
     }
 }
\ No newline at end of file